@@ -0,0 +1,124 @@
+package io.gitlab.chhyuk.jpa.querybuilder.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.cfg.Configuration;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 벤치마크용 인메모리 H2 데이터베이스. Team 1:N Member 데이터를 생성하고, Spring Data JPA와 같은 방식으로 Specification을 실행함.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+  static final String[] ROLES = {"OWNER", "ADMIN", "MEMBER", "MEMBER", "GUEST"};
+  private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+  private final EntityManagerFactory factory;
+
+  private BenchmarkDatabase(EntityManagerFactory factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * 데이터베이스 생성 후 데이터 적재.
+   *
+   * @param teams 팀 수
+   * @param membersPerTeam 팀별 멤버 수
+   */
+  static BenchmarkDatabase create(int teams, int membersPerTeam) {
+    EntityManagerFactory factory =
+        new Configuration()
+            .addAnnotatedClass(Team.class)
+            .addAnnotatedClass(Member.class)
+            .setProperty(
+                "hibernate.connection.url",
+                "jdbc:h2:mem:bench" + SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create")
+            .setProperty("hibernate.jdbc.batch_size", "500")
+            .setProperty("hibernate.show_sql", "false")
+            .buildSessionFactory();
+    BenchmarkDatabase database = new BenchmarkDatabase(factory);
+    database.load(teams, membersPerTeam);
+    return database;
+  }
+
+  EntityManagerFactory getFactory() {
+    return factory;
+  }
+
+  private void load(int teams, int membersPerTeam) {
+    EntityManager entityManager = factory.createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      long memberId = 0;
+      for (long teamId = 1; teamId <= teams; teamId++) {
+        Team team = new Team(teamId, "team-" + teamId);
+        entityManager.persist(team);
+        for (int i = 0; i < membersPerTeam; i++) {
+          memberId++;
+          String role = ROLES[(int) ((teamId + i) % ROLES.length)];
+          entityManager.persist(new Member(memberId, role, 20 + (int) (memberId % 40), team));
+        }
+        if (teamId % 100 == 0) {
+          entityManager.flush();
+          entityManager.clear();
+        }
+      }
+      entityManager.getTransaction().commit();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /** Spring Data JPA의 findAll(Specification, Pageable)과 같은 방식으로 한 페이지 조회. */
+  <T> List<T> findPage(Class<T> type, Specification<T> spec, int offset, int size) {
+    EntityManager entityManager = factory.createEntityManager();
+    try {
+      CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      CriteriaQuery<T> query = builder.createQuery(type);
+      Root<T> root = query.from(type);
+      Predicate predicate = spec.toPredicate(root, query, builder);
+      query.select(root);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+      return entityManager
+          .createQuery(query)
+          .setFirstResult(offset)
+          .setMaxResults(size)
+          .getResultList();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /** Spring Data JPA의 count 쿼리와 같은 방식으로 건수 조회. */
+  <T> long count(Class<T> type, Specification<T> spec) {
+    EntityManager entityManager = factory.createEntityManager();
+    try {
+      CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      CriteriaQuery<Long> query = builder.createQuery(Long.class);
+      Root<T> root = query.from(type);
+      Predicate predicate = spec.toPredicate(root, query, builder);
+      query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+      if (predicate != null) {
+        query.where(predicate);
+      }
+      query.orderBy(List.of());
+      return entityManager.createQuery(query).getSingleResult();
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    factory.close();
+  }
+}
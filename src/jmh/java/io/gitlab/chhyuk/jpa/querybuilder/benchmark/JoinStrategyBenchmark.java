@@ -0,0 +1,85 @@
+package io.gitlab.chhyuk.jpa.querybuilder.benchmark;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * to-many 조건의 JOIN + DISTINCT 방식과 상관 EXISTS 방식 비교. 1:N (Team:Member) 데이터에서 "ADMIN 역할 멤버가 있는 팀"을 id 순으로
+ * 페이징 조회함.
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=JoinStrategyBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JoinStrategyBenchmark {
+
+  @Param({"JOIN", "EXISTS"})
+  private JoinStrategy strategy;
+
+  @Param({"20"})
+  private int membersPerTeam;
+
+  @Param({"0", "1000"})
+  private int offset;
+
+  private BenchmarkDatabase database;
+  private EntityManager metamodelSource;
+  private Specification<Team> spec;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = BenchmarkDatabase.create(5_000, membersPerTeam);
+    metamodelSource = database.getFactory().createEntityManager();
+    spec =
+        SpecificationQueryBuilder.Builder.create(Team.class, metamodelSource)
+            .joinWithConditions(
+                "members",
+                List.of(JoinCondition.equal("role", "ADMIN"), JoinCondition.greaterEqual("age", 30)),
+                JoinType.INNER,
+                strategy)
+            .orderBy("id", Direction.ASC)
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    metamodelSource.close();
+    database.close();
+  }
+
+  @Benchmark
+  public List<Team> page() {
+    return database.findPage(Team.class, spec, offset, 20);
+  }
+
+  @Benchmark
+  public long count() {
+    return database.count(Team.class, spec);
+  }
+}
@@ -0,0 +1,49 @@
+package io.gitlab.chhyuk.jpa.querybuilder.benchmark;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/** 벤치마크용 1:N 자식 엔티티. */
+@Entity
+@Table(name = "bench_member", indexes = @Index(columnList = "team_id"))
+public class Member {
+  @Id private Long id;
+
+  private String role;
+
+  private Integer age;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "team_id")
+  private Team team;
+
+  protected Member() {}
+
+  Member(Long id, String role, Integer age, Team team) {
+    this.id = id;
+    this.role = role;
+    this.age = age;
+    this.team = team;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public Integer getAge() {
+    return age;
+  }
+
+  public Team getTeam() {
+    return team;
+  }
+}
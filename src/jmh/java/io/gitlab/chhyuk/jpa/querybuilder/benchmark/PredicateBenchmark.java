@@ -0,0 +1,169 @@
+package io.gitlab.chhyuk.jpa.querybuilder.benchmark;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder;
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConditionType;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Builder → build() → toPredicate 구간의 Predicate 생성 비용 측정 (쿼리는 실행하지 않음). Hibernate CriteriaBuilder를 사용하며,
+ * build.gradle의 jmh 설정에서 GC 프로파일러가 활성화되어 호출당 할당량(gc.alloc.rate.norm)이 함께 기록됨.
+ *
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=PredicateBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBenchmark {
+
+  private BenchmarkDatabase database;
+  private EntityManager entityManager;
+  private CriteriaBuilder criteriaBuilder;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = BenchmarkDatabase.create(1, 1);
+    entityManager = database.getFactory().createEntityManager();
+    criteriaBuilder = entityManager.getCriteriaBuilder();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    entityManager.close();
+    database.close();
+  }
+
+  /** ConditionType별 단일 조건. */
+  @State(Scope.Thread)
+  public static class SingleCondition {
+    @Param({
+      "EQUAL",
+      "NOT_EQUAL",
+      "LIKE",
+      "NOT_LIKE",
+      "LIKE_IGNORE_CASE",
+      "LIKE_START",
+      "LIKE_END",
+      "GREATER_THAN",
+      "GREATER_EQUAL",
+      "LESS_THAN",
+      "LESS_EQUAL",
+      "IN",
+      "NOT_IN",
+      "IS_NULL",
+      "IS_NOT_NULL",
+      "BETWEEN"
+    })
+    ConditionType type;
+  }
+
+  /** Metamodel 사용 여부 (비교 조건의 타입 해석 경로). */
+  @State(Scope.Thread)
+  public static class MetamodelMode {
+    @Param({"true", "false"})
+    boolean metamodel;
+  }
+
+  @Benchmark
+  public Predicate condition(SingleCondition state) {
+    SpecificationQueryBuilder.Builder<Member> builder = builder(true, Member.class);
+    switch (state.type) {
+      case EQUAL -> builder.equal("role", "ADMIN");
+      case NOT_EQUAL -> builder.notEqual("role", "GUEST");
+      case LIKE -> builder.like("role", "DMI");
+      case NOT_LIKE -> builder.notLike("role", "UES");
+      case LIKE_IGNORE_CASE -> builder.likeIgnoreCase("role", "admin");
+      case LIKE_START -> builder.likeStart("role", "AD");
+      case LIKE_END -> builder.likeEnd("role", "IN");
+      case GREATER_THAN -> builder.greaterThan("age", 30);
+      case GREATER_EQUAL -> builder.greaterEqual("age", 30);
+      case LESS_THAN -> builder.lessThan("age", 50);
+      case LESS_EQUAL -> builder.lessEqual("age", 50);
+      case IN -> builder.in("role", List.of("OWNER", "ADMIN", "MEMBER"));
+      case NOT_IN -> builder.notIn("role", List.of("GUEST"));
+      case IS_NULL -> builder.isNull("role");
+      case IS_NOT_NULL -> builder.isNotNull("role");
+      case BETWEEN -> builder.between("age", 20, 40);
+    }
+    return toPredicate(Member.class, builder.build());
+  }
+
+  @Benchmark
+  public Predicate comparison(MetamodelMode state) {
+    return toPredicate(
+        Member.class,
+        builder(state.metamodel, Member.class)
+            .greaterEqual("age", 30)
+            .lessThan("age", 50L)
+            .between("id", 1, 1000)
+            .build());
+  }
+
+  @Benchmark
+  public Predicate nestedOrAnd() {
+    return toPredicate(
+        Member.class,
+        builder(true, Member.class)
+            .equal("role", "ADMIN")
+            .or(
+                or ->
+                    or.likeStart("role", "OW")
+                        .and(and -> and.greaterEqual("age", 30).lessThan("age", 40)))
+            .and(and -> and.isNotNull("role").notEqual("role", "GUEST"))
+            .build());
+  }
+
+  @Benchmark
+  public Predicate joinWithConditions() {
+    return toPredicate(
+        Team.class,
+        builder(true, Team.class)
+            .like("name", "team")
+            .joinWithConditions(
+                "members",
+                List.of(
+                    JoinCondition.equal("role", "ADMIN"),
+                    JoinCondition.greaterEqual("age", 30),
+                    JoinCondition.in("role", List.of("OWNER", "ADMIN"))),
+                JoinType.LEFT)
+            .build());
+  }
+
+  private <T> SpecificationQueryBuilder.Builder<T> builder(boolean metamodel, Class<T> type) {
+    return metamodel
+        ? SpecificationQueryBuilder.Builder.create(type, entityManager)
+        : SpecificationQueryBuilder.Builder.create();
+  }
+
+  private <T> Predicate toPredicate(Class<T> type, Specification<T> spec) {
+    CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+    Root<T> root = query.from(type);
+    return spec.toPredicate(root, query, criteriaBuilder);
+  }
+}
@@ -0,0 +1,476 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Condition;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.GroupCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.TypedCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConditionType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 빌더 조건 트리 최적화. 쿼리 생성 전에 한 번 실행되며 다음을 적용함.
+ *
+ * <ul>
+ *   <li>중첩 AND/OR 평탄화, 하위 조건이 하나인 그룹 제거
+ *   <li>같은 속성/값의 중복 조건 제거
+ *   <li>AND로 연결된 같은 속성의 범위 조건(GREATER_*, LESS_*, BETWEEN)을 가장 좁은 범위로 합침 (양쪽 모두 포함 경계면 BETWEEN)
+ *   <li>OR로 연결된 같은 속성의 EQUAL/IN 조건을 하나의 IN으로 합침
+ *   <li>AND로 연결된 모순 조건(서로 다른 EQUAL 값, 빈 범위, IS_NULL과 값 비교 등) 감지 시 항상 거짓인 조건으로 대체
+ * </ul>
+ *
+ * <p>값은 {@link Factory#convert(String, Object)}로 속성 타입으로 변환한 뒤 비교하므로 "9"와 "10", "01"과 "1"처럼 문자열로 전달된
+ * 숫자도 속성 타입 기준으로 비교됨. 속성 타입을 알 수 없거나(Metamodel 없음) 변환할 수 없는 값, 템플릿 파라미터는 병합과 모순 감지에서
+ * 제외됨. 문자열 속성은 Java 기준(대소문자 구분)으로 비교함.
+ *
+ * @since 1.3.0
+ */
+final class ConditionOptimizer {
+
+  private static final Logger log = LoggerFactory.getLogger(ConditionOptimizer.class);
+
+  // 항상 거짓인 조건 (모순이 감지된 경우)
+  private static final Condition<?> NEVER =
+      (root, query, builder, context) -> builder.disjunction();
+
+  private ConditionOptimizer() {}
+
+  /**
+   * 최적화 과정에서 새 조건을 만들 때 사용하는 빌더 조건 생성기.
+   *
+   * @param <T> 엔티티 타입
+   */
+  interface Factory<T> {
+    TypedCondition<T> comparison(ConditionType type, String property, Object value);
+
+    TypedCondition<T> between(String property, Object start, Object end);
+
+    TypedCondition<T> in(String property, Object[] values);
+
+    /**
+     * 값을 속성 타입으로 변환.
+     *
+     * @return 변환된 값 (속성 타입을 알 수 없거나 변환할 수 없으면 null)
+     */
+    Object convert(String property, Object value);
+  }
+
+  /**
+   * AND로 결합되는 최상위 조건 배열 최적화.
+   *
+   * @return 최적화된 조건 배열 (모순이 감지되면 항상 거짓인 조건 하나)
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static <T> Condition<T>[] optimize(Condition<T>[] conditions, Factory<T> factory) {
+    List<Condition<T>> optimized = simplify(conditions, false, factory);
+    if (log.isDebugEnabled() && optimized.size() != conditions.length) {
+      log.debug("Optimized {} conditions into {}", conditions.length, optimized.size());
+    }
+    return optimized.toArray(new Condition[0]);
+  }
+
+  /** 항상 거짓인 조건인지 확인. */
+  static boolean isNever(Condition<?> condition) {
+    return condition == NEVER;
+  }
+
+  /**
+   * AND로 결합된 조건 배열이 항상 거짓인지 확인. 항상 거짓인 조건이 AND로 포함되었거나, 모든 하위 조건이 항상 거짓인 OR 그룹이 포함된 경우.
+   */
+  static boolean isUnsatisfiable(Condition<?>[] conditions) {
+    for (Condition<?> condition : conditions) {
+      if (isNever(condition)
+          || (condition instanceof GroupCondition<?> group && isUnsatisfiable(group))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isUnsatisfiable(GroupCondition<?> group) {
+    if (!group.disjunction()) {
+      return isUnsatisfiable(group.children());
+    }
+    for (Condition<?> child : group.children()) {
+      boolean never =
+          isNever(child) || (child instanceof GroupCondition<?> nested && isUnsatisfiable(nested));
+      if (!never) {
+        return false;
+      }
+    }
+    return group.children().length > 0;
+  }
+
+  /** 항상 거짓인 조건. */
+  @SuppressWarnings("unchecked")
+  static <T> Condition<T> never() {
+    return (Condition<T>) NEVER;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> List<Condition<T>> simplify(
+      Condition<T>[] children, boolean disjunction, Factory<T> factory) {
+    List<Condition<T>> flat = new ArrayList<>(children.length);
+    for (Condition<T> child : children) {
+      if (child instanceof GroupCondition<T> group) {
+        List<Condition<T>> nested = simplify(group.children(), group.disjunction(), factory);
+        if (group.disjunction() == disjunction || nested.size() == 1) {
+          for (Condition<T> flattened : nested) {
+            if (!contains(flat, flattened)) {
+              flat.add(flattened);
+            }
+          }
+        } else if (!nested.isEmpty()) {
+          flat.add(new GroupCondition<>(group.disjunction(), nested.toArray(new Condition[0])));
+        }
+      } else if (!contains(flat, child)) {
+        flat.add(child);
+      }
+    }
+    return disjunction ? simplifyOr(flat, factory) : simplifyAnd(flat, factory);
+  }
+
+  /** OR: 항상 거짓인 조건 제거, 같은 속성의 EQUAL/IN을 IN 하나로 합침. */
+  private static <T> List<Condition<T>> simplifyOr(
+      List<Condition<T>> children, Factory<T> factory) {
+    List<Condition<T>> result = new ArrayList<>(children.size());
+    for (Condition<T> child : children) {
+      if (!isNever(child)) {
+        result.add(child);
+      }
+    }
+    if (result.isEmpty()) {
+      return children.isEmpty() ? result : List.of(never());
+    }
+
+    Map<String, List<TypedCondition<T>>> equalities = new LinkedHashMap<>();
+    Map<String, Set<Object>> equalValues = new LinkedHashMap<>();
+    for (Condition<T> child : result) {
+      if (child instanceof TypedCondition<T> typed
+          && (typed.type() == ConditionType.EQUAL || typed.type() == ConditionType.IN)) {
+        Object[] values = convert(typed.property(), typed.values(), factory);
+        if (values != null) {
+          equalities.computeIfAbsent(typed.property(), k -> new ArrayList<>()).add(typed);
+          equalValues
+              .computeIfAbsent(typed.property(), k -> new LinkedHashSet<>())
+              .addAll(Arrays.asList(values));
+        }
+      }
+    }
+    for (Map.Entry<String, List<TypedCondition<T>>> entry : equalities.entrySet()) {
+      List<TypedCondition<T>> group = entry.getValue();
+      if (group.size() >= 2) {
+        Object[] values = equalValues.get(entry.getKey()).toArray();
+        replace(result, group, List.of(factory.in(entry.getKey(), values)));
+      }
+    }
+    return result;
+  }
+
+  /** AND: 범위 조건 병합, 모순 감지. */
+  private static <T> List<Condition<T>> simplifyAnd(
+      List<Condition<T>> children, Factory<T> factory) {
+    Map<String, PropertyConstraints<T>> constraints = new LinkedHashMap<>();
+    for (Condition<T> child : children) {
+      if (isNever(child)) {
+        return List.of(never());
+      }
+      if (child instanceof TypedCondition<T> typed && typed.property() != null) {
+        constraints
+            .computeIfAbsent(typed.property(), k -> new PropertyConstraints<>(k, factory))
+            .add(typed);
+      }
+    }
+    List<Condition<T>> result = new ArrayList<>(children);
+    for (Map.Entry<String, PropertyConstraints<T>> entry : constraints.entrySet()) {
+      PropertyConstraints<T> property = entry.getValue();
+      if (property.isContradiction()) {
+        log.debug("Contradicting conditions on property: {}, query matches no rows", entry.getKey());
+        return List.of(never());
+      }
+      if (property.ranges.size() >= 2 && property.rangeComparable) {
+        replace(result, property.ranges, property.mergedRange());
+      }
+    }
+    return result;
+  }
+
+  /** group의 첫 조건 위치에 대체 조건들을 넣고 나머지 group 조건은 제거. */
+  private static <T> void replace(
+      List<Condition<T>> conditions,
+      List<TypedCondition<T>> group,
+      List<? extends Condition<T>> replacements) {
+    int index = conditions.indexOf(group.get(0));
+    conditions.removeAll(group);
+    conditions.addAll(index, replacements);
+  }
+
+  private static <T> boolean contains(List<Condition<T>> conditions, Condition<T> candidate) {
+    for (Condition<T> condition : conditions) {
+      if (condition == candidate || sameCondition(condition, candidate)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 같은 타입, 속성, 값의 조건인지 확인 (IN/NOT_IN은 값 순서와 중복 무시). */
+  private static boolean sameCondition(Condition<?> left, Condition<?> right) {
+    if (!(left instanceof TypedCondition<?> a) || !(right instanceof TypedCondition<?> b)) {
+      return false;
+    }
+    if (a.type() != b.type() || a.property() == null || !a.property().equals(b.property())) {
+      return false;
+    }
+    if (a.type() == ConditionType.IN || a.type() == ConditionType.NOT_IN) {
+      return new HashSet<>(Arrays.asList(a.values()))
+          .equals(new HashSet<>(Arrays.asList(b.values())));
+    }
+    return Arrays.equals(a.values(), b.values());
+  }
+
+  /** 템플릿 파라미터나 null이 없는 값인지 확인. */
+  private static boolean isPlain(Object[] values) {
+    for (Object value : values) {
+      if (value == null || value instanceof QueryTemplate.Parameter) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 값 배열을 속성 타입으로 변환.
+   *
+   * @return 변환된 값 (템플릿 파라미터나 null이 있거나, 변환할 수 없는 값이 있으면 null)
+   */
+  private static Object[] convert(String property, Object[] values, Factory<?> factory) {
+    if (property == null || !isPlain(values)) {
+      return null;
+    }
+    Object[] converted = new Object[values.length];
+    for (int i = 0; i < values.length; i++) {
+      converted[i] = factory.convert(property, values[i]);
+      if (converted[i] == null) {
+        return null;
+      }
+    }
+    return converted;
+  }
+
+  /** 같은 클래스의 Comparable 값인지 확인. */
+  private static boolean comparable(Object left, Object right) {
+    return left instanceof Comparable && left.getClass() == right.getClass();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compare(Object left, Object right) {
+    return ((Comparable) left).compareTo(right);
+  }
+
+  /** 값이 같은지 확인. 비교할 수 없는 값(클래스가 다름)이면 null. */
+  private static Boolean same(Object left, Object right) {
+    if (left.getClass() != right.getClass()) {
+      return null;
+    }
+    return left instanceof Comparable ? compare(left, right) == 0 : left.equals(right);
+  }
+
+  /** 한 속성에 AND로 걸린 조건 모음. 값은 속성 타입으로 변환된 값. */
+  private static final class PropertyConstraints<T> {
+    private final String property;
+    private final Factory<T> factory;
+    private final List<TypedCondition<T>> ranges = new ArrayList<>();
+    private final List<Object> equalValues = new ArrayList<>();
+    private final List<Object[]> inValues = new ArrayList<>();
+    private boolean isNull;
+    private boolean isNotNull;
+    private boolean rangeComparable = true;
+    private Bound lower;
+    private Bound upper;
+
+    PropertyConstraints(String property, Factory<T> factory) {
+      this.property = property;
+      this.factory = factory;
+    }
+
+    void add(TypedCondition<T> condition) {
+      switch (condition.type()) {
+        case IS_NULL -> isNull = true;
+        case IS_NOT_NULL -> isNotNull = true;
+        case EQUAL -> {
+          Object[] values = convert(property, condition.values(), factory);
+          if (values != null) {
+            equalValues.add(values[0]);
+          }
+        }
+        case IN -> {
+          Object[] values = convert(property, condition.values(), factory);
+          if (values != null) {
+            inValues.add(values);
+          }
+        }
+        case GREATER_THAN, GREATER_EQUAL, LESS_THAN, LESS_EQUAL, BETWEEN -> addRange(condition);
+        default -> {
+          // LIKE, NOT_EQUAL, NOT_IN 등은 분석 대상 아님
+        }
+      }
+    }
+
+    private void addRange(TypedCondition<T> condition) {
+      ranges.add(condition);
+      if (!rangeComparable) {
+        return;
+      }
+      Object[] values = convert(property, condition.values(), factory);
+      if (values == null) {
+        rangeComparable = false;
+        return;
+      }
+      switch (condition.type()) {
+        case GREATER_THAN -> rangeComparable = tightenLower(new Bound(values[0], false));
+        case GREATER_EQUAL -> rangeComparable = tightenLower(new Bound(values[0], true));
+        case LESS_THAN -> rangeComparable = tightenUpper(new Bound(values[0], false));
+        case LESS_EQUAL -> rangeComparable = tightenUpper(new Bound(values[0], true));
+        default ->
+            rangeComparable =
+                tightenLower(new Bound(values[0], true)) && tightenUpper(new Bound(values[1], true));
+      }
+    }
+
+    /** 더 큰 하한으로 교체. 비교할 수 없으면 false. */
+    private boolean tightenLower(Bound bound) {
+      if (!isComparable(bound)) {
+        return false;
+      }
+      if (lower == null) {
+        lower = bound;
+      } else {
+        int cmp = compare(bound.value, lower.value);
+        if (cmp > 0 || (cmp == 0 && !bound.inclusive)) {
+          lower = bound;
+        }
+      }
+      return true;
+    }
+
+    /** 더 작은 상한으로 교체. 비교할 수 없으면 false. */
+    private boolean tightenUpper(Bound bound) {
+      if (!isComparable(bound)) {
+        return false;
+      }
+      if (upper == null) {
+        upper = bound;
+      } else {
+        int cmp = compare(bound.value, upper.value);
+        if (cmp < 0 || (cmp == 0 && !bound.inclusive)) {
+          upper = bound;
+        }
+      }
+      return true;
+    }
+
+    private boolean isComparable(Bound bound) {
+      Bound other = lower != null ? lower : upper;
+      return bound.value instanceof Comparable
+          && (other == null || comparable(bound.value, other.value));
+    }
+
+    /** 만족하는 값이 없는 조건 조합인지 확인. */
+    boolean isContradiction() {
+      boolean hasValue = !equalValues.isEmpty() || !inValues.isEmpty() || !ranges.isEmpty();
+      if (isNull && (isNotNull || hasValue)) {
+        return true;
+      }
+      if (rangeComparable && lower != null && upper != null) {
+        int cmp = compare(lower.value, upper.value);
+        if (cmp > 0 || (cmp == 0 && !(lower.inclusive && upper.inclusive))) {
+          return true;
+        }
+      }
+      for (int i = 1; i < equalValues.size(); i++) {
+        if (Boolean.FALSE.equals(same(equalValues.get(0), equalValues.get(i)))) {
+          return true;
+        }
+      }
+      for (Object value : equalValues) {
+        for (Object[] in : inValues) {
+          if (excludes(in, value)) {
+            return true;
+          }
+        }
+        if (rangeComparable && outOfRange(value)) {
+          return true;
+        }
+      }
+      for (int i = 1; i < inValues.size(); i++) {
+        if (disjoint(inValues.get(0), inValues.get(i))) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** IN 목록의 모든 값과 비교 가능하고, 어느 값과도 같지 않은 경우 true. */
+    private static boolean excludes(Object[] in, Object value) {
+      for (Object candidate : in) {
+        Boolean same = same(candidate, value);
+        if (same == null || same) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean disjoint(Object[] left, Object[] right) {
+      for (Object value : left) {
+        if (!excludes(right, value)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean outOfRange(Object value) {
+      if (lower != null && comparable(value, lower.value)) {
+        int cmp = compare(value, lower.value);
+        if (cmp < 0 || (cmp == 0 && !lower.inclusive)) {
+          return true;
+        }
+      }
+      if (upper != null && comparable(value, upper.value)) {
+        int cmp = compare(value, upper.value);
+        return cmp > 0 || (cmp == 0 && !upper.inclusive);
+      }
+      return false;
+    }
+
+    /** 합쳐진 범위 조건. 양쪽 경계가 모두 포함이면 BETWEEN 하나, 아니면 하한/상한 조건. */
+    List<TypedCondition<T>> mergedRange() {
+      if (lower != null && upper != null && lower.inclusive && upper.inclusive) {
+        return List.of(factory.between(property, lower.value, upper.value));
+      }
+      List<TypedCondition<T>> merged = new ArrayList<>(2);
+      if (lower != null) {
+        ConditionType type =
+            lower.inclusive ? ConditionType.GREATER_EQUAL : ConditionType.GREATER_THAN;
+        merged.add(factory.comparison(type, property, lower.value));
+      }
+      if (upper != null) {
+        ConditionType type = upper.inclusive ? ConditionType.LESS_EQUAL : ConditionType.LESS_THAN;
+        merged.add(factory.comparison(type, property, upper.value));
+      }
+      return merged;
+    }
+  }
+
+  /** 범위 경계 값. */
+  private record Bound(Object value, boolean inclusive) {}
+}
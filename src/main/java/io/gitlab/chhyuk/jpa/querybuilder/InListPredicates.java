@@ -0,0 +1,162 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConversionRegistry;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListOptions;
+import io.gitlab.chhyuk.jpa.querybuilder.function.TypeConverter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link InListOptions}에 따라 IN / NOT IN 조건을 생성. 값은 중복 제거 후 배열 파라미터, 분할, 패딩 순으로 적용됨.
+ *
+ * @since 1.3.0
+ */
+final class InListPredicates {
+
+  private static final Logger log = LoggerFactory.getLogger(InListPredicates.class);
+
+  private InListPredicates() {}
+
+  /**
+   * IN 조건 생성. 값이 이미 경로 타입인 경우 사용 (기본 타입 변환기로 배열 파라미터 값을 변환).
+   *
+   * @see #in(CriteriaBuilder, Expression, Collection, InListOptions, TypeConverter)
+   */
+  static Predicate in(
+      CriteriaBuilder builder, Expression<?> expression, Collection<?> values, InListOptions options) {
+    return in(builder, expression, values, options, ConversionRegistry.defaults());
+  }
+
+  /**
+   * IN 조건 생성. 배열 파라미터는 값을 경로 타입으로 변환한 뒤 만들며, 변환할 수 없는 값이 있으면 일반 IN 목록으로 생성함.
+   *
+   * @param builder CriteriaBuilder
+   * @param expression 비교 대상 경로
+   * @param values 값 목록 (비어 있지 않음)
+   * @param options IN 목록 설정
+   * @param converter 배열 파라미터 값의 타입 변환기
+   * @return Predicate
+   */
+  static Predicate in(
+      CriteriaBuilder builder,
+      Expression<?> expression,
+      Collection<?> values,
+      InListOptions options,
+      TypeConverter converter) {
+    Object[] distinct = new LinkedHashSet<>(values).toArray();
+    if (options.getDialect() != null && distinct.length >= options.getArrayThreshold()) {
+      Object[] converted = convert(expression, distinct, converter);
+      if (converted != null) {
+        return options.getDialect().in(builder, expression, converted);
+      }
+      log.debug(
+          "Values cannot be converted to {}, using IN list instead of array parameter",
+          expression.getJavaType().getName());
+    }
+    int chunkSize = options.getChunkSize();
+    if (chunkSize <= 0 || distinct.length <= chunkSize) {
+      // 분할하지 않는 경우에도 패딩은 분할 크기를 넘지 않음
+      return inClause(
+          builder, expression, distinct, 0, distinct.length, options.isPadding(), chunkSize);
+    }
+    List<Predicate> chunks = new ArrayList<>((distinct.length + chunkSize - 1) / chunkSize);
+    for (int from = 0; from < distinct.length; from += chunkSize) {
+      int to = Math.min(from + chunkSize, distinct.length);
+      chunks.add(inClause(builder, expression, distinct, from, to, options.isPadding(), chunkSize));
+    }
+    return builder.or(chunks.toArray(new Predicate[0]));
+  }
+
+  /**
+   * NOT IN 조건 생성. 값이 이미 경로 타입인 경우 사용.
+   *
+   * @see #notIn(CriteriaBuilder, Expression, Collection, InListOptions, TypeConverter)
+   */
+  static Predicate notIn(
+      CriteriaBuilder builder, Expression<?> expression, Collection<?> values, InListOptions options) {
+    return notIn(builder, expression, values, options, ConversionRegistry.defaults());
+  }
+
+  /**
+   * NOT IN 조건 생성. 분할된 경우 NOT (a IN (...) OR b IN (...))로 생성됨.
+   *
+   * @see #in(CriteriaBuilder, Expression, Collection, InListOptions, TypeConverter)
+   */
+  static Predicate notIn(
+      CriteriaBuilder builder,
+      Expression<?> expression,
+      Collection<?> values,
+      InListOptions options,
+      TypeConverter converter) {
+    return builder.not(in(builder, expression, values, options, converter));
+  }
+
+  /**
+   * 배열 파라미터 값을 경로 타입으로 변환. 변환 후 같아진 값은 한 번만 남김.
+   *
+   * @return 변환된 값 (경로 타입을 알 수 없으면 원래 값), 변환할 수 없는 값이 있으면 null
+   */
+  private static Object[] convert(
+      Expression<?> expression, Object[] values, TypeConverter converter) {
+    Class<?> javaType = expression.getJavaType();
+    if (javaType == null) {
+      return values;
+    }
+    Class<?> type = ClassUtils.primitiveToWrapper(javaType);
+    Object[] converted = null;
+    for (int i = 0; i < values.length; i++) {
+      if (type.isInstance(values[i])) {
+        continue;
+      }
+      Object value = converter.convert(values[i], type);
+      if (!type.isInstance(value)) {
+        return null;
+      }
+      if (converted == null) {
+        converted = values.clone();
+      }
+      converted[i] = value;
+    }
+    return converted != null ? new LinkedHashSet<>(Arrays.asList(converted)).toArray() : values;
+  }
+
+  private static Predicate inClause(
+      CriteriaBuilder builder,
+      Expression<?> expression,
+      Object[] values,
+      int from,
+      int to,
+      boolean padding,
+      int max) {
+    CriteriaBuilder.In<Object> inClause = builder.in(expression);
+    for (int i = from; i < to; i++) {
+      inClause.value(values[i]);
+    }
+    if (padding) {
+      // 마지막 값을 반복해 2의 거듭제곱 개수로 맞춤 (IN 결과에는 영향 없음)
+      int size = to - from;
+      int padded = paddedSize(size);
+      if (max > 0) {
+        padded = Math.min(padded, max);
+      }
+      for (int i = size; i < padded; i++) {
+        inClause.value(values[to - 1]);
+      }
+    }
+    return inClause;
+  }
+
+  /** size 이상인 가장 작은 2의 거듭제곱. */
+  static int paddedSize(int size) {
+    return size <= 1 ? size : Integer.highestOneBit(size - 1) << 1;
+  }
+}
@@ -0,0 +1,211 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 키셋(seek) 페이징 커서. 정렬 컬럼 값들을 순서대로 담으며, 클라이언트에는 {@link #encode()}로 만든 불투명 문자열로 전달됨. 직렬화 형식은 타입
+ * 태그가 붙은 텍스트이므로 자바 역직렬화를 사용하지 않음.
+ *
+ * @since 1.3.0
+ */
+public final class KeysetCursor {
+  private static final String VERSION = "k1";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final Map<String, Object> values;
+
+  private KeysetCursor(Map<String, Object> values) {
+    this.values = Collections.unmodifiableMap(values);
+  }
+
+  /**
+   * 정렬 필드별 값으로 커서 생성.
+   *
+   * @param values 정렬 순서대로의 (필드, 값) (null 값 불가)
+   * @return 커서
+   * @throws IllegalArgumentException 값이 비어 있거나 null 값이 포함된 경우
+   * @since 1.3.0
+   */
+  public static KeysetCursor of(Map<String, ?> values) {
+    if (values == null || values.isEmpty()) {
+      throw new IllegalArgumentException("Keyset cursor requires at least one value");
+    }
+    Map<String, Object> copy = new LinkedHashMap<>();
+    values.forEach(
+        (field, value) -> {
+          if (value == null) {
+            throw new IllegalArgumentException("Keyset column must not be null: " + field);
+          }
+          copy.put(field, value);
+        });
+    return new KeysetCursor(copy);
+  }
+
+  /**
+   * {@link #encode()}로 만든 문자열을 커서로 복원.
+   *
+   * @param cursor 커서 문자열
+   * @return 커서
+   * @throws IllegalArgumentException 잘못된 커서 문자열인 경우
+   * @since 1.3.0
+   */
+  public static KeysetCursor decode(String cursor) {
+    if (StringUtils.isBlank(cursor)) {
+      throw new IllegalArgumentException("Cursor cannot be blank");
+    }
+    try {
+      String text = new String(DECODER.decode(cursor.trim()), StandardCharsets.UTF_8);
+      String[] entries = text.split(",", -1);
+      if (entries.length < 2 || !VERSION.equals(entries[0])) {
+        throw new IllegalArgumentException("Unsupported cursor format");
+      }
+      Map<String, Object> values = new LinkedHashMap<>();
+      for (int i = 1; i < entries.length; i++) {
+        String[] parts = entries[i].split(":", 3);
+        if (parts.length != 3) {
+          throw new IllegalArgumentException("Malformed cursor entry");
+        }
+        String value = new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8);
+        values.put(parts[0], parseValue(parts[1], value));
+      }
+      return new KeysetCursor(values);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid keyset cursor: " + cursor, e);
+    }
+  }
+
+  /**
+   * 불투명 커서 문자열 생성 (URL-safe Base64).
+   *
+   * @return 커서 문자열
+   * @since 1.3.0
+   */
+  public String encode() {
+    StringBuilder text = new StringBuilder(VERSION);
+    values.forEach(
+        (field, value) ->
+            text.append(',')
+                .append(field)
+                .append(':')
+                .append(typeTag(field, value))
+                .append(':')
+                .append(
+                    ENCODER.encodeToString(
+                        (value instanceof Enum<?> e ? e.name() : value.toString())
+                            .getBytes(StandardCharsets.UTF_8))));
+    return ENCODER.encodeToString(text.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 정렬 필드별 값 (정렬 순서 유지). Enum 값은 이름(String)으로 복원되며 비교 시 속성 타입으로 변환됨.
+   *
+   * @return (필드, 값) 맵
+   * @since 1.3.0
+   */
+  public Map<String, Object> getValues() {
+    return values;
+  }
+
+  /**
+   * 엔티티에서 속성 값을 읽음 (getter 우선, 없으면 필드). "team.name" 같은 경로 지원.
+   *
+   * @since 1.3.0
+   */
+  static Object readProperty(Object entity, String path) {
+    Object current = entity;
+    for (String segment : StringUtils.split(path, '.')) {
+      if (current == null) {
+        return null;
+      }
+      current = readSegment(current, segment);
+    }
+    return current;
+  }
+
+  private static Object readSegment(Object target, String name) {
+    String suffix = StringUtils.capitalize(name);
+    try {
+      for (String prefix : new String[] {"get", "is"}) {
+        try {
+          Method getter = target.getClass().getMethod(prefix + suffix);
+          return getter.invoke(target);
+        } catch (NoSuchMethodException e) {
+          // 다음 접근 방식 시도
+        }
+      }
+      for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+        try {
+          Field field = type.getDeclaredField(name);
+          field.setAccessible(true);
+          return field.get(target);
+        } catch (NoSuchFieldException e) {
+          // 상위 클래스에서 재시도
+        }
+      }
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalArgumentException("Cannot read property: " + name, e);
+    }
+    throw new IllegalArgumentException(
+        "Property not found: " + name + " on " + target.getClass().getName());
+  }
+
+  private static String typeTag(String field, Object value) {
+    if (value instanceof String) return "S";
+    if (value instanceof Long) return "L";
+    if (value instanceof Integer) return "I";
+    if (value instanceof Short) return "H";
+    if (value instanceof Double) return "D";
+    if (value instanceof Float) return "F";
+    if (value instanceof BigDecimal) return "M";
+    if (value instanceof BigInteger) return "G";
+    if (value instanceof Boolean) return "Z";
+    if (value instanceof UUID) return "U";
+    if (value instanceof LocalDate) return "d";
+    if (value instanceof LocalDateTime) return "t";
+    if (value instanceof ZonedDateTime) return "z";
+    if (value instanceof OffsetDateTime) return "o";
+    if (value instanceof Instant) return "i";
+    if (value instanceof Enum<?>) return "E";
+    throw new IllegalArgumentException(
+        "Unsupported keyset column type: " + value.getClass().getName() + " for field: " + field);
+  }
+
+  private static Object parseValue(String tag, String value) {
+    return switch (tag) {
+      case "S", "E" -> value;
+      case "L" -> Long.valueOf(value);
+      case "I" -> Integer.valueOf(value);
+      case "H" -> Short.valueOf(value);
+      case "D" -> Double.valueOf(value);
+      case "F" -> Float.valueOf(value);
+      case "M" -> new BigDecimal(value);
+      case "G" -> new BigInteger(value);
+      case "Z" -> Boolean.valueOf(value);
+      case "U" -> UUID.fromString(value);
+      case "d" -> LocalDate.parse(value);
+      case "t" -> LocalDateTime.parse(value);
+      case "z" -> ZonedDateTime.parse(value);
+      case "o" -> OffsetDateTime.parse(value);
+      case "i" -> Instant.parse(value);
+      default -> throw new IllegalArgumentException("Unknown cursor value type: " + tag);
+    };
+  }
+}
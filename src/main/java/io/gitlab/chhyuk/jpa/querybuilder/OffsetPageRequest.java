@@ -0,0 +1,98 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import java.util.Objects;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 페이지 크기의 배수가 아닌 OFFSET도 그대로 표현하는 Pageable. {@link org.springframework.data.domain.PageRequest}는 페이지
+ * 번호로만 OFFSET을 계산하므로 offset(25), limit(10)을 표현할 수 없음. 다음/이전 페이지는 OFFSET에서 limit만큼 이동함.
+ *
+ * @since 1.3.0
+ */
+final class OffsetPageRequest implements Pageable {
+  private final long offset;
+  private final int limit;
+  private final Sort sort;
+
+  OffsetPageRequest(long offset, int limit, Sort sort) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("Offset must not be negative: " + offset);
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must be positive: " + limit);
+    }
+    this.offset = offset;
+    this.limit = limit;
+    this.sort = sort != null ? sort : Sort.unsorted();
+  }
+
+  @Override
+  public int getPageNumber() {
+    return (int) (offset / limit);
+  }
+
+  @Override
+  public int getPageSize() {
+    return limit;
+  }
+
+  @Override
+  public long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public Sort getSort() {
+    return sort;
+  }
+
+  @Override
+  public Pageable next() {
+    return new OffsetPageRequest(offset + limit, limit, sort);
+  }
+
+  @Override
+  public Pageable previousOrFirst() {
+    if (!hasPrevious()) {
+      return first();
+    }
+    return new OffsetPageRequest(Math.max(0, offset - limit), limit, sort);
+  }
+
+  @Override
+  public Pageable first() {
+    return new OffsetPageRequest(0, limit, sort);
+  }
+
+  @Override
+  public Pageable withPage(int pageNumber) {
+    return new OffsetPageRequest((long) pageNumber * limit, limit, sort);
+  }
+
+  @Override
+  public boolean hasPrevious() {
+    return offset > 0;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof OffsetPageRequest that)) {
+      return false;
+    }
+    return offset == that.offset && limit == that.limit && sort.equals(that.sort);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(offset, limit, sort);
+  }
+
+  @Override
+  public String toString() {
+    return "OffsetPageRequest [offset: " + offset + ", limit: " + limit + ", sort: " + sort + "]";
+  }
+}
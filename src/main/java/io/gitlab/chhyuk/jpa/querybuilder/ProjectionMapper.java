@@ -0,0 +1,204 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 조회한 컬럼 값 배열을 record 또는 인터페이스 타입으로 변환. 선택 경로 "team.name"은 이름 "teamName"으로 대응되며, record는 같은 이름의
+ * 컴포넌트, 인터페이스는 같은 이름의 메서드(getTeamName, isTeamName, teamName)에 대응됨. 대응 관계는 (타입, 선택 경로)별로 한 번만
+ * 해석하여 캐싱함.
+ *
+ * @param <R> 결과 타입
+ * @since 1.3.0
+ */
+final class ProjectionMapper<R> {
+
+  // 결과 타입 -> (선택 경로 목록 -> 해석된 매퍼)
+  private static final ClassValue<Map<List<String>, ProjectionMapper<?>>> CACHE =
+      new ClassValue<>() {
+        @Override
+        protected Map<List<String>, ProjectionMapper<?>> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Class<R> type;
+  // record: 생성자 인자 순서별 값 위치
+  private final MethodHandle constructor;
+  private final int[] indexes;
+  // 인터페이스: 메서드 -> 값 위치
+  private final Map<Method, Integer> accessors;
+
+  private ProjectionMapper(
+      Class<R> type, MethodHandle constructor, int[] indexes, Map<Method, Integer> accessors) {
+    this.type = type;
+    this.constructor = constructor;
+    this.indexes = indexes;
+    this.accessors = accessors;
+  }
+
+  /**
+   * 매퍼 조회 (최초 사용 시 해석 후 캐싱).
+   *
+   * @param type record 또는 인터페이스 타입
+   * @param selections 선택 경로 목록
+   * @return 매퍼
+   * @throws IllegalArgumentException record/인터페이스가 아니거나, 선택 경로에 대응되지 않는 컴포넌트나 메서드가 있는 경우
+   */
+  @SuppressWarnings("unchecked")
+  static <R> ProjectionMapper<R> of(Class<R> type, List<String> selections) {
+    if (type == null) {
+      throw new IllegalArgumentException("Projection type cannot be null");
+    }
+    return (ProjectionMapper<R>)
+        CACHE.get(type).computeIfAbsent(List.copyOf(selections), k -> resolve(type, k));
+  }
+
+  /**
+   * 선택 경로의 이름. 예: "team.name" -> "teamName"
+   *
+   * @param path 선택 경로
+   * @return 이름
+   */
+  static String alias(String path) {
+    String[] segments = path.split("\\.");
+    StringBuilder alias = new StringBuilder(segments[0]);
+    for (int i = 1; i < segments.length; i++) {
+      alias.append(StringUtils.capitalize(segments[i]));
+    }
+    return alias.toString();
+  }
+
+  /**
+   * 컬럼 값 배열을 결과 타입으로 변환.
+   *
+   * @param values 선택 경로 순서의 값
+   * @return 결과 객체
+   */
+  R map(Object[] values) {
+    if (constructor == null) {
+      return type.cast(
+          Proxy.newProxyInstance(
+              type.getClassLoader(), new Class<?>[] {type}, new Handler(this, values)));
+    }
+    Object[] args = new Object[indexes.length];
+    for (int i = 0; i < indexes.length; i++) {
+      args[i] = values[indexes[i]];
+    }
+    try {
+      return type.cast(constructor.invoke(args));
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Failed to create projection: " + type.getName(), e);
+    }
+  }
+
+  /** 인터페이스 프록시. 같은 매퍼로 만든 프록시끼리 값이 같으면 equals. */
+  private record Handler(ProjectionMapper<?> mapper, Object[] values)
+      implements InvocationHandler {
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Integer index = mapper.accessors.get(method);
+      if (index != null) {
+        return values[index];
+      }
+      if (method.isDefault()) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+      switch (method.getName()) {
+        case "equals":
+          return args[0] != null
+              && Proxy.isProxyClass(args[0].getClass())
+              && Proxy.getInvocationHandler(args[0]) instanceof Handler other
+              && other.mapper == mapper
+              && Arrays.equals(values, other.values);
+        case "hashCode":
+          return Arrays.hashCode(values);
+        case "toString":
+          return mapper.type.getSimpleName() + Arrays.toString(values);
+        default:
+          throw new UnsupportedOperationException(
+              "Method is not mapped to a selection: " + method.getName());
+      }
+    }
+  }
+
+  private static <R> ProjectionMapper<R> resolve(Class<R> type, List<String> selections) {
+    Map<String, Integer> positions = new HashMap<>();
+    for (int i = 0; i < selections.size(); i++) {
+      positions.put(alias(selections.get(i)), i);
+    }
+    if (type.isRecord()) {
+      RecordComponent[] components = type.getRecordComponents();
+      Class<?>[] parameterTypes = new Class<?>[components.length];
+      int[] indexes = new int[components.length];
+      for (int i = 0; i < components.length; i++) {
+        indexes[i] = position(type, positions, components[i].getName());
+        parameterTypes[i] = components[i].getType();
+      }
+      try {
+        Constructor<R> constructor = type.getDeclaredConstructor(parameterTypes);
+        constructor.setAccessible(true);
+        MethodHandle handle =
+            MethodHandles.lookup()
+                .unreflectConstructor(constructor)
+                .asSpreader(Object[].class, components.length);
+        return new ProjectionMapper<>(type, handle, indexes, Map.of());
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        throw new IllegalArgumentException(
+            "Cannot access record constructor: " + type.getName(), e);
+      }
+    }
+    if (type.isInterface()) {
+      Map<Method, Integer> accessors = new HashMap<>();
+      for (Method method : type.getMethods()) {
+        if (method.isDefault()
+            || method.getParameterCount() > 0
+            || method.getName().equals("toString")
+            || method.getName().equals("hashCode")) {
+          continue;
+        }
+        accessors.put(method, position(type, positions, propertyName(method.getName())));
+      }
+      return new ProjectionMapper<>(type, null, null, Map.copyOf(accessors));
+    }
+    throw new IllegalArgumentException(
+        "Projection type must be a record or an interface: " + type.getName());
+  }
+
+  private static int position(Class<?> type, Map<String, Integer> positions, String name) {
+    Integer position = positions.get(name);
+    if (position == null) {
+      throw new IllegalArgumentException(
+          "No selection for "
+              + type.getSimpleName()
+              + "."
+              + name
+              + ", selected: "
+              + positions.keySet());
+    }
+    return position;
+  }
+
+  private static String propertyName(String methodName) {
+    if (methodName.startsWith("get") && methodName.length() > 3) {
+      return StringUtils.uncapitalize(methodName.substring(3));
+    }
+    if (methodName.startsWith("is") && methodName.length() > 2) {
+      return StringUtils.uncapitalize(methodName.substring(2));
+    }
+    return methodName;
+  }
+}
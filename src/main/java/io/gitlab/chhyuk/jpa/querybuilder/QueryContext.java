@@ -0,0 +1,254 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConversionRegistry;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListOptions;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinStrategy;
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryMetrics;
+import io.gitlab.chhyuk.jpa.querybuilder.function.TypeConverter;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * 하나의 CriteriaQuery를 만드는 동안 빌더 조건들이 공유하는 상태. toPredicate 호출마다 새로 생성되며 스레드 간에 공유되지 않음.
+ *
+ * @since 1.3.0
+ */
+final class QueryContext {
+  private final boolean template;
+  private final boolean countQuery;
+  private Map<String, ParameterExpression<?>> parameters;
+  // 파라미터 이름 -> 슬롯 타입 (Hibernate 6은 enum 등 일부 타입의 getParameterType()이 null)
+  private Map<String, Class<?>> parameterTypes;
+  // (경로, 조인 타입) -> Join. 같은 연관관계는 쿼리 안에서 한 번만 조인
+  private final Map<String, Join<?, ?>> joins = new HashMap<>();
+  private InListOptions inListOptions = InListOptions.defaults();
+  private QueryMetrics metrics = QueryMetrics.noop();
+  private TypeConverter typeConverter = ConversionRegistry.defaults();
+  private JoinStrategy joinStrategy = JoinStrategy.JOIN;
+  private String tieBreaker;
+  private Metamodel metamodel;
+
+  QueryContext(boolean template, boolean countQuery) {
+    this.template = template;
+    this.countQuery = countQuery;
+  }
+
+  /**
+   * Spring Data가 전달한 쿼리로 컨텍스트 생성. 결과 타입이 Long이면 count 쿼리로 판단 (Spring Data의 count 쿼리 생성 방식과 동일).
+   */
+  static QueryContext of(CriteriaQuery<?> query) {
+    return new QueryContext(false, isCountQuery(query));
+  }
+
+  static boolean isCountQuery(CriteriaQuery<?> query) {
+    Class<?> resultType = query.getResultType();
+    return resultType == Long.class || resultType == long.class;
+  }
+
+  /** count 쿼리인 경우 정렬, 키셋 조건 등 결과 건수에 영향 없는 작업을 생략. */
+  boolean isCountQuery() {
+    return countQuery;
+  }
+
+  /**
+   * 연관관계 조인 조회. 같은 (경로, 조인 타입)은 쿼리 안에서 같은 Join을 재사용하며, "team.members"처럼 중첩 경로는 각 단계가 같은 조인
+   * 타입으로 조인됨.
+   *
+   * @param root 루트
+   * @param path 연관관계 경로
+   * @param joinType 조인 타입
+   * @return Join 객체
+   */
+  Join<?, ?> join(Root<?> root, String path, JoinType joinType) {
+    From<?, ?> from = root;
+    int start = 0;
+    while (true) {
+      int end = path.indexOf('.', start);
+      String prefix = end < 0 ? path : path.substring(0, end);
+      from = joinSegment(from, prefix, prefix.substring(start), joinType);
+      if (end < 0) {
+        return (Join<?, ?>) from;
+      }
+      start = end + 1;
+    }
+  }
+
+  /**
+   * 속성 경로 조회. "team.name"처럼 연관관계를 거치는 경로는 이미 등록된 조인(INNER, LEFT 순)을 재사용하고, 없으면 LEFT 조인을 등록함.
+   * 임베디드 속성은 조인 없이 경로로 탐색.
+   *
+   * @param root 루트
+   * @param path 속성 경로
+   * @return Path 객체
+   */
+  <Y> Path<Y> get(Root<?> root, String path) {
+    int index = path.lastIndexOf('.');
+    if (index < 0) {
+      return root.get(path);
+    }
+    Path<?> current = root;
+    int start = 0;
+    while (start <= index) {
+      int end = path.indexOf('.', start);
+      String prefix = path.substring(0, end);
+      String segment = path.substring(start, end);
+      if (current instanceof From<?, ?> from && isJoinable(from, segment)) {
+        Join<?, ?> existing = joins.get(key(prefix, JoinType.INNER));
+        current = existing != null ? existing : joinSegment(from, prefix, segment, JoinType.LEFT);
+      } else {
+        current = current.get(segment);
+      }
+      start = end + 1;
+    }
+    return current.get(path.substring(index + 1));
+  }
+
+  private Join<?, ?> joinSegment(From<?, ?> from, String prefix, String segment, JoinType joinType) {
+    return joins.computeIfAbsent(key(prefix, joinType), k -> from.join(segment, joinType));
+  }
+
+  private static String key(String path, JoinType joinType) {
+    return path + '#' + joinType;
+  }
+
+  /** 연관관계(또는 컬렉션) 속성인지 확인. 임베디드/기본 타입은 조인 대상이 아님. */
+  private static boolean isJoinable(From<?, ?> from, String segment) {
+    ManagedType<?> type = managedType(from);
+    if (type == null) {
+      return true;
+    }
+    try {
+      Attribute<?, ?> attribute = type.getAttribute(segment);
+      return attribute.isAssociation() || attribute.isCollection();
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static ManagedType<?> managedType(From<?, ?> from) {
+    if (from instanceof Root<?> root) {
+      return root.getModel();
+    }
+    if (from instanceof Join<?, ?> join) {
+      Attribute<?, ?> attribute = join.getAttribute();
+      if (attribute instanceof PluralAttribute<?, ?, ?> plural
+          && plural.getElementType() instanceof ManagedType<?> managed) {
+        return managed;
+      }
+      if (attribute instanceof SingularAttribute<?, ?> singular
+          && singular.getType() instanceof ManagedType<?> managed) {
+        return managed;
+      }
+    }
+    return null;
+  }
+
+  /** IN 목록 생성 설정. 빌더가 설정하지 않으면 기본값. */
+  InListOptions getInListOptions() {
+    return inListOptions;
+  }
+
+  void setInListOptions(InListOptions inListOptions) {
+    this.inListOptions = inListOptions;
+  }
+
+  /** 메트릭 수집기. 설정되지 않으면 아무 작업도 하지 않는 기본 구현. */
+  QueryMetrics getMetrics() {
+    return metrics;
+  }
+
+  boolean isMetricsEnabled() {
+    return metrics != QueryMetrics.noop();
+  }
+
+  void setMetrics(QueryMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /** 비교 조건, 템플릿 파라미터, 키셋 커서 값의 타입 변환기. */
+  TypeConverter getTypeConverter() {
+    return typeConverter;
+  }
+
+  void setTypeConverter(TypeConverter typeConverter) {
+    this.typeConverter = typeConverter;
+  }
+
+  /** 전략을 지정하지 않은 조인 조건의 조인 전략. */
+  JoinStrategy getJoinStrategy() {
+    return joinStrategy;
+  }
+
+  void setJoinStrategy(JoinStrategy joinStrategy) {
+    this.joinStrategy = joinStrategy;
+  }
+
+  /** 정렬 순서를 고정하기 위해 ORDER BY 마지막에 추가할 고유 컬럼. null이면 추가하지 않음. */
+  String getTieBreaker() {
+    return tieBreaker;
+  }
+
+  void setTieBreaker(String tieBreaker) {
+    this.tieBreaker = tieBreaker;
+  }
+
+  /** 속성 타입 해석에 사용할 Metamodel. null이면 경로의 자바 타입을 직접 사용. */
+  Metamodel getMetamodel() {
+    return metamodel;
+  }
+
+  void setMetamodel(Metamodel metamodel) {
+    this.metamodel = metamodel;
+  }
+
+  /**
+   * 템플릿 파라미터 슬롯 조회. 같은 이름은 같은 ParameterExpression을 공유.
+   *
+   * @throws IllegalStateException 템플릿 컴파일이 아닌 일반 Specification에서 사용한 경우
+   */
+  ParameterExpression<?> parameter(
+      CriteriaBuilder builder, Class<?> type, QueryTemplate.Parameter parameter) {
+    if (!template) {
+      throw new IllegalStateException(
+          "Template parameter '"
+              + parameter.getName()
+              + "' can only be used with Builder.template()");
+    }
+    if (parameters == null) {
+      parameters = new LinkedHashMap<>();
+      parameterTypes = new LinkedHashMap<>();
+    }
+    return parameters.computeIfAbsent(
+        parameter.getName(),
+        name -> {
+          Class<?> wrapper = ClassUtils.primitiveToWrapper(type);
+          parameterTypes.put(name, wrapper);
+          return builder.parameter(wrapper, name);
+        });
+  }
+
+  Map<String, ParameterExpression<?>> getParameters() {
+    return parameters != null ? parameters : Collections.emptyMap();
+  }
+
+  /** 파라미터 이름별 슬롯 생성 시 지정한 타입. */
+  Map<String, Class<?>> getParameterTypes() {
+    return parameterTypes != null ? parameterTypes : Collections.emptyMap();
+  }
+}
@@ -0,0 +1,856 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.CompiledSpecification;
+import io.gitlab.chhyuk.jpa.querybuilder.function.AttributeCache;
+import io.gitlab.chhyuk.jpa.querybuilder.function.AttributeDescriptor;
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryHints;
+import io.gitlab.chhyuk.jpa.querybuilder.function.WindowCountDialect;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * {@link CompiledSpecification}을 EntityManager로 직접 실행하는 실행기. 빌더의 limit/offset/page 설정을 TypedQuery의
+ * setFirstResult/setMaxResults로 그대로 적용하고, limit이 없으면 최대 결과 수({@link #maxResults(int)})로 제한함. 결과가 항상
+ * 비어 있는 Specification({@link CompiledSpecification#isUnsatisfiable()})은 쿼리를 실행하지 않음.
+ *
+ * <pre>{@code
+ * Page<User> page = SpecificationQueryBuilder.Builder
+ *     .create(User.class, entityManager)
+ *     .equal("status", "ACTIVE")
+ *     .orderBy("createdAt", Direction.DESC)
+ *     .page(2, 20)
+ *     .executor()
+ *     .hint("org.hibernate.readOnly", true)
+ *     .page();
+ * }</pre>
+ *
+ * <p>EntityManager와 같이 하나의 스레드(트랜잭션)에서 사용해야 함.
+ *
+ * @param <T> 엔티티 타입
+ * @since 1.3.0
+ */
+public final class QueryExecutor<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(QueryExecutor.class);
+
+  /** limit이 없는 조회의 기본 최대 결과 수. */
+  public static final int DEFAULT_MAX_RESULTS = 10_000;
+
+  /** ID 우선 조회를 자동으로 사용하는 기본 OFFSET 기준. */
+  public static final int DEFAULT_DEFERRED_JOIN_OFFSET = 1_000;
+
+  /** 스트림 조회의 기본 JDBC fetch size. */
+  public static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+  private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+
+  private final CompiledSpecification<T> specification;
+  private final EntityManager entityManager;
+  private final Class<T> entityClass;
+  // 전역 기본값 + 빌더에 지정한 힌트
+  private final QueryHints queryHints;
+  private final Map<String, Object> hints = new LinkedHashMap<>();
+  private int maxResults = DEFAULT_MAX_RESULTS;
+  private WindowCountDialect windowCountDialect;
+  private Integer streamFetchSize;
+  private int clearInterval;
+  private boolean idsFirst;
+  private int deferredJoinOffset = DEFAULT_DEFERRED_JOIN_OFFSET;
+  // 빌더의 fetch 경로로 만든 EntityGraph (처음 사용 시 생성, load graph 힌트로 적용)
+  private EntityGraph<T> loadGraph;
+  private boolean collectionFetch;
+
+  QueryExecutor(CompiledSpecification<T> specification, EntityManager entityManager) {
+    if (entityManager == null) {
+      throw new IllegalArgumentException("EntityManager cannot be null");
+    }
+    if (specification.getEntityClass() == null) {
+      throw new IllegalStateException(
+          "Query execution requires an entity class, use Builder.create(Class, EntityManager)");
+    }
+    this.specification = specification;
+    this.entityManager = entityManager;
+    this.entityClass = specification.getEntityClass();
+    this.queryHints = QueryHints.defaults().overrideWith(specification.getQueryHints());
+  }
+
+  /**
+   * 쿼리 힌트 추가. 조회 쿼리와 count 쿼리에 모두 적용되며, 빌더에 지정한 힌트와 전역 기본값({@link QueryHints})보다 우선함. 예:
+   * executor.hint("jakarta.persistence.query.timeout", 3000)
+   *
+   * @param name 힌트 이름
+   * @param value 힌트 값
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> hint(String name, Object value) {
+    if (StringUtils.isBlank(name)) {
+      throw new IllegalArgumentException("Hint name cannot be blank");
+    }
+    hints.put(name, value);
+    return this;
+  }
+
+  /**
+   * limit이 없는 조회의 최대 결과 수 설정 (기본값 {@link #DEFAULT_MAX_RESULTS}). 결과가 잘린 경우 경고 로그가 기록됨.
+   *
+   * @param maxResults 최대 결과 수 (0이면 제한 없음)
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> maxResults(int maxResults) {
+    if (maxResults < 0) {
+      throw new IllegalArgumentException("Max results must not be negative: " + maxResults);
+    }
+    this.maxResults = maxResults;
+    return this;
+  }
+
+  /**
+   * {@link #page()}에서 전체 건수를 별도 count 쿼리 대신 {@code count(*) over()}로 내용과 함께 조회. 데이터베이스가 윈도우 함수를
+   * 지원하지 않거나 DISTINCT 쿼리인 경우 count 쿼리 방식으로 대체됨. 예: executor.windowCount(new
+   * HibernateWindowCountDialect())
+   *
+   * @param dialect 윈도우 함수 생성 방식
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> windowCount(WindowCountDialect dialect) {
+    if (dialect == null) {
+      throw new IllegalArgumentException("WindowCountDialect cannot be null");
+    }
+    this.windowCountDialect = dialect;
+    return this;
+  }
+
+  /**
+   * {@link #stream()}의 JDBC fetch size 설정. 지정하지 않으면 빌더의 fetch size, 그것도 없으면 {@link #DEFAULT_STREAM_FETCH_SIZE}.
+   *
+   * @param fetchSize 한 번에 가져올 행 수
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> streamFetchSize(int fetchSize) {
+    if (fetchSize <= 0) {
+      throw new IllegalArgumentException("Fetch size must be positive: " + fetchSize);
+    }
+    this.streamFetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * {@link #stream()}에서 지정한 행 수마다 EntityManager를 비우도록 설정. 반환된 엔티티는 준영속 상태가 될 수 있으므로 지연 로딩 연관관계는
+   * 사용할 수 없으며, 같은 EntityManager로 조회한 다른 엔티티도 함께 준영속 상태가 됨.
+   *
+   * @param rows 비우는 간격 (0이면 비우지 않음)
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> clearEvery(int rows) {
+    if (rows < 0) {
+      throw new IllegalArgumentException("Clear interval must not be negative: " + rows);
+    }
+    this.clearInterval = rows;
+    return this;
+  }
+
+  /**
+   * {@link #list()}, {@link #page()}, {@link #slice()}의 내용을 두 단계로 조회. 먼저 조건, DISTINCT, 정렬, offset/limit을 적용하여
+   * ID만 조회하고, 해당 ID의 엔티티를 한 번의 IN 쿼리로 조회한 뒤 ID 순서대로 정렬함. 조인 조건과 페이징을 함께 사용할 때 넓은 엔티티 행을
+   * 정렬하거나 DISTINCT로 비교하지 않도록 함. 엔티티 ID가 복합키이면 한 번에 조회함.
+   *
+   * @return 실행기
+   * @see #deferredJoinOffset(int)
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> idsFirst() {
+    this.idsFirst = true;
+    return this;
+  }
+
+  /**
+   * limit이 있고 OFFSET이 기준 이상이면 {@link #idsFirst()}를 자동으로 사용 (기본값 {@link #DEFAULT_DEFERRED_JOIN_OFFSET}). 깊은 페이지에서
+   * 데이터베이스가 건너뛸 행을 ID(와 정렬 컬럼)만으로 읽도록 하여, 전체 행은 요청한 페이지만큼만 조회함.
+   *
+   * @param offset OFFSET 기준 (0이면 자동 사용 안 함)
+   * @return 실행기
+   * @since 1.3.0
+   */
+  public QueryExecutor<T> deferredJoinOffset(int offset) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("Deferred join offset must not be negative: " + offset);
+    }
+    this.deferredJoinOffset = offset;
+    return this;
+  }
+
+  /**
+   * 목록 조회. offset과 limit이 그대로 적용됨.
+   *
+   * @return 조회 결과
+   * @since 1.3.0
+   */
+  public List<T> list() {
+    if (specification.isUnsatisfiable()) {
+      log.debug(
+          "Skipping query for entity: {}, specification is unsatisfiable", entityClass.getName());
+      return List.of();
+    }
+    Integer limit = specification.getLimit();
+    int max = limit != null ? limit : maxResults;
+    List<T> result = fetch(offset(), max, new QueryContext(false, false));
+    if (limit == null && max > 0 && result.size() >= max) {
+      log.warn(
+          "Result for entity: {} reached max results: {}, set limit() or maxResults()",
+          entityClass.getName(),
+          max);
+    }
+    return result;
+  }
+
+  /**
+   * 페이지 조회. 내용은 offset/limit 그대로 조회하며, 전체 건수는 필요한 경우에만 count 쿼리로 조회함 (첫 페이지에서 limit보다 적게 조회되었거나
+   * 마지막 페이지인 경우 count 쿼리 생략). {@link #windowCount(WindowCountDialect)} 설정 시 전체 건수를 내용과 같은 쿼리에서 조회함.
+   *
+   * @return 페이지
+   * @throws IllegalStateException limit 또는 page가 설정되지 않은 경우
+   * @since 1.3.0
+   */
+  public Page<T> page() {
+    Pageable pageable = pageable();
+    if (specification.isUnsatisfiable()) {
+      log.debug(
+          "Skipping query for entity: {}, specification is unsatisfiable", entityClass.getName());
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+    if (windowCountDialect != null) {
+      Page<T> page = windowPage(pageable);
+      if (page != null) {
+        return page;
+      }
+    }
+    List<T> content = fetch(offset(), pageable.getPageSize(), new QueryContext(false, false));
+    return PageableExecutionUtils.getPage(content, pageable, this::count);
+  }
+
+  /**
+   * 슬라이스 조회. limit + 1건을 조회하여 다음 페이지 존재 여부를 판단하므로 count 쿼리를 실행하지 않음. 페이지 간 순서가 바뀌지 않도록 정렬
+   * 마지막에 tie-breaker({@link SpecificationQueryBuilder.Builder#tieBreaker(String)}, 기본값은 엔티티 ID)를 추가함.
+   *
+   * @return 슬라이스
+   * @throws IllegalStateException limit 또는 page가 설정되지 않은 경우
+   * @since 1.3.0
+   */
+  public Slice<T> slice() {
+    Pageable pageable = pageable();
+    if (specification.isUnsatisfiable()) {
+      log.debug(
+          "Skipping query for entity: {}, specification is unsatisfiable", entityClass.getName());
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+    int size = pageable.getPageSize();
+    QueryContext context = new QueryContext(false, false);
+    context.setTieBreaker(tieBreaker());
+    List<T> rows = fetch(offset(), size < Integer.MAX_VALUE ? size + 1 : size, context);
+    boolean hasNext = rows.size() > size;
+    return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+  }
+
+  /**
+   * 스트림 조회. 결과를 한 번에 메모리에 올리지 않고 {@link TypedQuery#getResultStream()}으로 순차 조회하며, 읽기 전용 힌트와 fetch
+   * size가 적용됨. {@link #clearEvery(int)} 설정 시 지정한 행 수마다 EntityManager를 비워 결과 크기와 관계없이 메모리 사용량을 일정하게
+   * 유지함. offset과 limit은 설정된 경우에만 적용되며 최대 결과 수 제한은 적용되지 않음.
+   *
+   * <p>데이터베이스 커서를 사용하므로 트랜잭션 안에서 사용하고, 반드시 닫아야 함.
+   *
+   * <pre>{@code
+   * try (Stream<User> users = builder.executor().clearEvery(1000).stream()) {
+   *   users.forEach(writer::write);
+   * }
+   * }</pre>
+   *
+   * @return 스트림 (닫으면 커서도 닫힘)
+   * @since 1.3.0
+   */
+  public Stream<T> stream() {
+    if (specification.isUnsatisfiable()) {
+      log.debug(
+          "Skipping query for entity: {}, specification is unsatisfiable", entityClass.getName());
+      return Stream.empty();
+    }
+    Integer limit = specification.getLimit();
+    TypedQuery<T> query =
+        createQuery(offset(), limit != null ? limit : 0, new QueryContext(false, false));
+    // 우선순위: hint() > streamFetchSize() > 빌더/전역 힌트 > 스트림 기본값
+    if (!hints.containsKey(QueryHints.FETCH_SIZE)
+        && (streamFetchSize != null || queryHints.getFetchSize() == null)) {
+      query.setHint(
+          QueryHints.FETCH_SIZE,
+          streamFetchSize != null ? streamFetchSize : DEFAULT_STREAM_FETCH_SIZE);
+    }
+    if (!hints.containsKey(QueryHints.READ_ONLY) && queryHints.getReadOnly() == null) {
+      query.setHint(QueryHints.READ_ONLY, true);
+    }
+    Stream<T> rows = query.getResultStream();
+    if (clearInterval == 0) {
+      return rows;
+    }
+    Iterator<T> iterator = rows.iterator();
+    Iterator<T> clearing =
+        new Iterator<>() {
+          private long count;
+          private boolean clearPending;
+
+          @Override
+          public boolean hasNext() {
+            // 구현체가 hasNext()에서 다음 행을 미리 읽으므로 읽기 전에 비워야 다음 행이 준영속 상태가 되지 않음
+            clearIfPending();
+            return iterator.hasNext();
+          }
+
+          @Override
+          public T next() {
+            clearIfPending();
+            T row = iterator.next();
+            // 지정한 행 수를 반환할 때마다 비움 (이미 반환된 행은 처리가 끝난 것으로 간주)
+            clearPending = ++count % clearInterval == 0;
+            return row;
+          }
+
+          private void clearIfPending() {
+            if (clearPending) {
+              entityManager.clear();
+              clearPending = false;
+            }
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                clearing, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(rows::close);
+  }
+
+  /**
+   * 프로젝션 목록 조회. 빌더의 {@link SpecificationQueryBuilder.Builder#select(String...)}로 지정한 속성만 조회하여 record 또는
+   * 인터페이스로 변환하므로 엔티티를 생성하거나 영속성 컨텍스트에 등록하지 않음. offset/limit과 최대 결과 수는 {@link #list()}와 같이
+   * 적용됨.
+   *
+   * @param type record 또는 인터페이스 타입
+   * @param <R> 결과 타입
+   * @return 조회 결과
+   * @throws IllegalStateException 선택할 속성이 지정되지 않은 경우
+   * @throws IllegalArgumentException 선택한 속성에 대응되지 않는 컴포넌트나 메서드가 있는 경우
+   * @since 1.3.0
+   */
+  public <R> List<R> list(Class<R> type) {
+    ProjectionMapper<R> mapper = mapper(type);
+    if (specification.isUnsatisfiable()) {
+      return List.of();
+    }
+    Integer limit = specification.getLimit();
+    int max = limit != null ? limit : maxResults;
+    return project(mapper, offset(), max, new QueryContext(false, false));
+  }
+
+  /**
+   * 프로젝션 페이지 조회. 전체 건수는 {@link #page()}와 같이 필요한 경우에만 count 쿼리로 조회함.
+   *
+   * @param type record 또는 인터페이스 타입
+   * @param <R> 결과 타입
+   * @return 페이지
+   * @throws IllegalStateException limit 또는 page가 설정되지 않았거나, 선택할 속성이 지정되지 않은 경우
+   * @since 1.3.0
+   */
+  public <R> Page<R> page(Class<R> type) {
+    ProjectionMapper<R> mapper = mapper(type);
+    Pageable pageable = pageable();
+    if (specification.isUnsatisfiable()) {
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+    List<R> content =
+        project(mapper, offset(), pageable.getPageSize(), new QueryContext(false, false));
+    return PageableExecutionUtils.getPage(content, pageable, this::count);
+  }
+
+  /**
+   * 프로젝션 슬라이스 조회. {@link #slice()}와 같이 count 쿼리 없이 limit + 1건을 조회함.
+   *
+   * @param type record 또는 인터페이스 타입
+   * @param <R> 결과 타입
+   * @return 슬라이스
+   * @throws IllegalStateException limit 또는 page가 설정되지 않았거나, 선택할 속성이 지정되지 않은 경우
+   * @since 1.3.0
+   */
+  public <R> Slice<R> slice(Class<R> type) {
+    ProjectionMapper<R> mapper = mapper(type);
+    Pageable pageable = pageable();
+    if (specification.isUnsatisfiable()) {
+      return new SliceImpl<>(List.of(), pageable, false);
+    }
+    int size = pageable.getPageSize();
+    QueryContext context = new QueryContext(false, false);
+    context.setTieBreaker(tieBreaker());
+    List<R> rows = project(mapper, offset(), size < Integer.MAX_VALUE ? size + 1 : size, context);
+    boolean hasNext = rows.size() > size;
+    return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+  }
+
+  /**
+   * 조건에 맞는 전체 건수 조회. 정렬, 키셋 조건, limit/offset은 적용되지 않음.
+   *
+   * @return 건수
+   * @since 1.3.0
+   */
+  public long count() {
+    if (specification.isUnsatisfiable()) {
+      return 0;
+    }
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    Root<T> root = query.from(entityClass);
+    Predicate predicate =
+        specification.toPredicate(root, query, builder, new QueryContext(false, true));
+    query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return prepare(query, 0, 0).getSingleResult();
+  }
+
+  /**
+   * 상한이 있는 건수 조회. 조건에 맞는 행을 최대 max + 1건까지만 조회(ID만 선택)하므로 조건에 맞는 행이 많아도 전체를 세지 않음. "1,000+"처럼 정확한
+   * 건수가 필요 없는 화면에 사용. 정렬, 키셋 조건, limit/offset은 적용되지 않음.
+   *
+   * @param max 상한
+   * @return 건수 (상한을 넘으면 상한 값과 초과 여부)
+   * @since 1.3.0
+   */
+  public BoundedCount count(int max) {
+    if (max <= 0 || max == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Max count must be between 1 and Integer.MAX_VALUE - 1");
+    }
+    if (specification.isUnsatisfiable()) {
+      return new BoundedCount(0, false);
+    }
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object> query = builder.createQuery(Object.class);
+    Root<T> root = query.from(entityClass);
+    Predicate predicate =
+        specification.toPredicate(root, query, builder, new QueryContext(false, true));
+    // ID만 선택하여 엔티티 로딩 없이 조회 (DISTINCT 쿼리도 행 단위로 셈)
+    AttributeDescriptor id = AttributeCache.resolveId(entityManager.getMetamodel(), entityClass);
+    query.select(id.isValid() ? root.get(id.getPath()) : root);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    int rows = prepare(query, 0, max + 1).getResultList().size();
+    return rows > max ? new BoundedCount(max, true) : new BoundedCount(rows, false);
+  }
+
+  /**
+   * offset/limit과 힌트가 적용된 TypedQuery 생성. 결과 조회 방식(getResultStream 등)을 직접 정하는 경우 사용.
+   *
+   * @return TypedQuery
+   * @since 1.3.0
+   */
+  public TypedQuery<T> createQuery() {
+    Integer limit = specification.getLimit();
+    return createQuery(
+        offset(), limit != null ? limit : maxResults, new QueryContext(false, false));
+  }
+
+  /**
+   * 내용과 {@code count(*) over()}를 한 번에 조회. 조회된 행이 없으면 전체 건수를 알 수 없으므로 필요한 경우 count 쿼리를 실행함.
+   *
+   * @return 페이지, 윈도우 함수를 사용할 수 없거나 컬렉션을 함께 로딩하는 경우 null
+   */
+  private Page<T> windowPage(Pageable pageable) {
+    if (loadGraph() != null && collectionFetch) {
+      // 컬렉션 load graph와 limit을 함께 적용하면 JPA 구현체가 메모리에서 페이징하므로 ID 우선 조회 사용
+      log.debug(
+          "Collection fetch for entity: {}, falling back from window count",
+          entityClass.getName());
+      return null;
+    }
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    Root<T> root = query.from(entityClass);
+    Predicate predicate =
+        specification.toPredicate(root, query, builder, new QueryContext(false, false));
+    // DISTINCT는 윈도우 함수 계산 이후 적용되므로 중복 행까지 건수에 포함됨
+    Expression<Long> total =
+        query.isDistinct() ? null : windowCountDialect.countOver(entityManager, builder, root);
+    if (total == null) {
+      log.debug(
+          "Window count not available for entity: {}, falling back to count query",
+          entityClass.getName());
+      return null;
+    }
+    query.multiselect(root, total);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    TypedQuery<Tuple> typedQuery = prepare(query, offset(), pageable.getPageSize());
+    applyLoadGraph(typedQuery);
+    List<Tuple> rows = typedQuery.getResultList();
+    if (rows.isEmpty()) {
+      return PageableExecutionUtils.getPage(List.of(), pageable, this::count);
+    }
+    List<T> content = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      content.add(row.get(0, entityClass));
+    }
+    long totalCount = rows.get(0).get(1, Long.class);
+    return new PageImpl<>(content, pageable, totalCount);
+  }
+
+  private List<T> fetch(int offset, int max, QueryContext context) {
+    // limit이 없는 조회는 ID 목록이 커지므로 자동 사용하지 않음
+    boolean deferred =
+        !idsFirst
+            && deferredJoinOffset > 0
+            && offset >= deferredJoinOffset
+            && specification.getLimit() != null;
+    if (deferred) {
+      log.debug(
+          "Offset: {} reached deferred join offset: {}, fetching ids first",
+          offset,
+          deferredJoinOffset);
+    }
+    // 컬렉션을 함께 로딩하면서 limit을 적용하면 JPA 구현체가 메모리에서 페이징하므로 ID를 먼저 조회
+    boolean pagedCollectionFetch = max > 0 && loadGraph() != null && collectionFetch;
+    if (idsFirst || deferred || pagedCollectionFetch) {
+      AttributeDescriptor id = AttributeCache.resolveId(entityManager.getMetamodel(), entityClass);
+      if (!id.isValid()) {
+        log.debug(
+            "Entity: {} has no single id attribute, fetching without ids first",
+            entityClass.getName());
+      } else {
+        List<T> content = fetchByIds(id.getPath(), offset, max, context);
+        if (content != null) {
+          return content;
+        }
+        // ID 조회에 사용한 조인은 다른 쿼리의 것이므로 새 컨텍스트로 조회
+        QueryContext fallback = new QueryContext(false, false);
+        fallback.setTieBreaker(context.getTieBreaker());
+        context = fallback;
+      }
+    }
+    return createQuery(offset, max, context).getResultList();
+  }
+
+  /**
+   * ID만 먼저 조회한 뒤 엔티티를 ID로 조회하고, ID 조회 순서대로 정렬. to-many 조인으로 같은 ID가 여러 번 조회되면 처음 위치만 사용함.
+   *
+   * @return 엔티티 목록, 정렬이 컬렉션 연관관계를 거쳐 ID 목록을 만들 수 없으면 null
+   */
+  private List<T> fetchByIds(String idAttribute, int offset, int max, QueryContext context) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> idQuery = builder.createTupleQuery();
+    Root<T> root = idQuery.from(entityClass);
+    Predicate predicate = specification.toPredicate(root, idQuery, builder, context);
+    List<Selection<?>> selections = new ArrayList<>();
+    selections.add(root.get(idAttribute));
+    // DISTINCT 쿼리는 정렬 컬럼이 SELECT 목록에 있어야 함
+    for (Order order : idQuery.getOrderList()) {
+      if (crossesCollection(order.getExpression())) {
+        // 자식 행마다 ID가 반복되어 페이지가 ID 단위로 나뉘지 않음
+        log.debug(
+            "Order for entity: {} crosses a collection, fetching without ids first",
+            entityClass.getName());
+        return null;
+      }
+      selections.add(order.getExpression());
+    }
+    idQuery.multiselect(selections);
+    if (predicate != null) {
+      idQuery.where(predicate);
+    }
+    List<Tuple> rows = prepare(idQuery, offset, max).getResultList();
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+    Set<Object> ids = new LinkedHashSet<>(rows.size());
+    for (Tuple row : rows) {
+      ids.add(row.get(0));
+    }
+
+    CriteriaQuery<T> query = builder.createQuery(entityClass);
+    Root<T> entityRoot = query.from(entityClass);
+    query
+        .select(entityRoot)
+        .where(
+            InListPredicates.in(
+                builder,
+                entityRoot.get(idAttribute),
+                ids,
+                specification.getInListOptions()));
+    TypedQuery<T> typedQuery = prepare(query, 0, 0);
+    applyLoadGraph(typedQuery);
+    PersistenceUnitUtil util = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    Map<Object, T> byId = new HashMap<>();
+    for (T entity : typedQuery.getResultList()) {
+      byId.put(util.getIdentifier(entity), entity);
+    }
+    List<T> content = new ArrayList<>(ids.size());
+    for (Object id : ids) {
+      T entity = byId.get(id);
+      if (entity != null) {
+        content.add(entity);
+      }
+    }
+    return content;
+  }
+
+  private <R> ProjectionMapper<R> mapper(Class<R> type) {
+    List<String> selections = specification.getSelections();
+    if (selections.isEmpty()) {
+      throw new IllegalStateException("Projection requires select() on the builder");
+    }
+    return ProjectionMapper.of(type, selections);
+  }
+
+  /** 선택한 속성만 조회하여 결과 타입으로 변환. 연관관계 경로는 조건에서 사용한 조인을 재사용함. */
+  private <R> List<R> project(
+      ProjectionMapper<R> mapper, int offset, int max, QueryContext context) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    Root<T> root = query.from(entityClass);
+    Predicate predicate = specification.toPredicate(root, query, builder, context);
+    List<String> paths = specification.getSelections();
+    List<Selection<?>> selections = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      selections.add(context.get(root, path));
+    }
+    if (query.isDistinct()) {
+      // DISTINCT 쿼리는 정렬 컬럼이 SELECT 목록에 있어야 함
+      for (Order order : query.getOrderList()) {
+        selections.add(order.getExpression());
+      }
+    }
+    query.multiselect(selections);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    List<Tuple> rows = prepare(query, offset, max).getResultList();
+    List<R> result = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      Object[] values = new Object[paths.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = row.get(i);
+      }
+      result.add(mapper.map(values));
+    }
+    return result;
+  }
+
+  private TypedQuery<T> createQuery(int offset, int max, QueryContext context) {
+    CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = builder.createQuery(entityClass);
+    Root<T> root = query.from(entityClass);
+    Predicate predicate = specification.toPredicate(root, query, builder, context);
+    query.select(root);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    TypedQuery<T> typedQuery = prepare(query, offset, max);
+    applyLoadGraph(typedQuery);
+    return typedQuery;
+  }
+
+  /** 빌더/전역 힌트 적용 후 {@link #hint(String, Object)}로 지정한 힌트 적용. */
+  private void applyHints(TypedQuery<?> typedQuery) {
+    queryHints.applyTo(typedQuery);
+    hints.forEach(typedQuery::setHint);
+  }
+
+  /** 빌더의 fetch 경로가 있으면 EntityGraph를 load graph 힌트로 적용 (직접 지정한 힌트가 우선). */
+  private void applyLoadGraph(TypedQuery<?> typedQuery) {
+    EntityGraph<T> graph = loadGraph();
+    if (graph != null && !hints.containsKey(LOAD_GRAPH_HINT)) {
+      typedQuery.setHint(LOAD_GRAPH_HINT, graph);
+    }
+  }
+
+  private EntityGraph<T> loadGraph() {
+    List<String> paths = specification.getFetchPaths();
+    if (loadGraph == null && !paths.isEmpty()) {
+      loadGraph = createLoadGraph(entityManager, entityClass, paths);
+      collectionFetch = hasCollectionPath(entityManager, entityClass, paths);
+    }
+    return loadGraph;
+  }
+
+  /** fetch 경로로 EntityGraph 생성 ("members.role"처럼 중첩 경로는 서브그래프로 추가). */
+  static <E> EntityGraph<E> createLoadGraph(
+      EntityManager entityManager, Class<E> entityClass, List<String> paths) {
+    EntityGraph<E> graph = entityManager.createEntityGraph(entityClass);
+    for (String path : paths) {
+      String[] segments = path.split("\\.");
+      if (segments.length == 1) {
+        graph.addAttributeNodes(path);
+      } else {
+        Subgraph<?> subgraph = graph.addSubgraph(segments[0]);
+        for (int i = 1; i < segments.length - 1; i++) {
+          subgraph = subgraph.addSubgraph(segments[i]);
+        }
+        subgraph.addAttributeNodes(segments[segments.length - 1]);
+      }
+    }
+    return graph;
+  }
+
+  /** fetch 경로 중 컬렉션 연관관계를 거치는 경로가 있는지 확인. */
+  static boolean hasCollectionPath(
+      EntityManager entityManager, Class<?> entityClass, List<String> paths) {
+    for (String path : paths) {
+      if (isCollectionPath(entityManager, entityClass, path.split("\\."))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** 경로 중 컬렉션 연관관계가 있는지 확인. */
+  private static boolean isCollectionPath(
+      EntityManager entityManager, Class<?> entityClass, String[] segments) {
+    ManagedType<?> type = entityManager.getMetamodel().managedType(entityClass);
+    for (String segment : segments) {
+      Attribute<?, ?> attribute = type.getAttribute(segment);
+      if (attribute.isCollection()) {
+        return true;
+      }
+      if (!(attribute instanceof SingularAttribute<?, ?> singular
+          && singular.getType() instanceof ManagedType<?> managed)) {
+        return false;
+      }
+      type = managed;
+    }
+    return false;
+  }
+
+  /** TypedQuery 생성 후 힌트와 offset/limit 적용. 실행기가 만드는 모든 쿼리(ID 조회 포함)는 이 메서드를 거침. */
+  private <R> TypedQuery<R> prepare(CriteriaQuery<R> query, int offset, int max) {
+    TypedQuery<R> typedQuery = entityManager.createQuery(query);
+    applyHints(typedQuery);
+    if (offset > 0) {
+      typedQuery.setFirstResult(offset);
+    }
+    if (max > 0) {
+      typedQuery.setMaxResults(max);
+    }
+    return typedQuery;
+  }
+
+  /** 경로가 컬렉션 연관관계 조인을 거치는지 확인 (경로가 아닌 식은 false). */
+  private static boolean crossesCollection(Expression<?> expression) {
+    if (!(expression instanceof Path<?> path)) {
+      return false;
+    }
+    for (Path<?> current = path; current != null; current = current.getParentPath()) {
+      if (current instanceof Join<?, ?> join && join.getAttribute().isCollection()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int offset() {
+    Integer offset = specification.getOffset();
+    return offset != null ? offset : 0;
+  }
+
+  private String tieBreaker() {
+    return tieBreaker(specification, entityManager);
+  }
+
+  /** 빌더에 지정한 tie-breaker, 없으면 엔티티의 단일 ID 속성. ID가 복합키이면 null (빌더 정렬만 사용). */
+  static String tieBreaker(CompiledSpecification<?> specification, EntityManager entityManager) {
+    String tieBreaker = specification.getTieBreaker();
+    if (tieBreaker != null) {
+      return tieBreaker;
+    }
+    Class<?> entityClass = specification.getEntityClass();
+    AttributeDescriptor id = AttributeCache.resolveId(entityManager.getMetamodel(), entityClass);
+    if (id.isValid()) {
+      return id.getPath();
+    }
+    log.debug(
+        "Entity: {} has no single id attribute, slice order relies on orderBy only",
+        entityClass.getName());
+    return null;
+  }
+
+  private Pageable pageable() {
+    Integer limit = specification.getLimit();
+    if (limit == null) {
+      throw new IllegalStateException(
+          "Page and slice execution require limit() or page() on the builder");
+    }
+    return new OffsetPageRequest(offset(), limit, specification.getSort());
+  }
+
+  /**
+   * 상한이 있는 건수 조회 결과.
+   *
+   * @param count 건수 (상한을 넘으면 상한 값)
+   * @param exceeded 실제 건수가 상한보다 많으면 true
+   * @since 1.3.0
+   */
+  public record BoundedCount(long count, boolean exceeded) {
+
+    /**
+     * 정확한 건수인지 여부.
+     *
+     * @return 상한을 넘지 않았으면 true
+     * @since 1.3.0
+     */
+    public boolean isExact() {
+      return !exceeded;
+    }
+
+    /** 화면 표시용 문자열. 예: "42", "1000+" */
+    @Override
+    public String toString() {
+      return exceeded ? count + "+" : Long.toString(count);
+    }
+  }
+}
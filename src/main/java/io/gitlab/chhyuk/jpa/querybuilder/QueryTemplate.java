@@ -0,0 +1,274 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryHints;
+import io.gitlab.chhyuk.jpa.querybuilder.function.TypeConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 파라미터 슬롯({@link #param(String)})으로 선언된 조건 구조를 한 번만 CriteriaQuery로 만들고, 실행마다 값만 바인딩하는 쿼리 템플릿.
+ * 요청마다 CriteriaQuery를 다시 만드는 비용을 줄임. Hibernate 6은 Criteria 쿼리의 플랜을 기본적으로 캐시하지 않으므로, 쿼리 플랜
+ * 캐시까지 재사용하려면 {@code hibernate.criteria.plan_cache_enabled=true}를 설정해야 함. 스레드 안전하므로 상수로 보관하여 공유 가능.
+ *
+ * <pre>{@code
+ * QueryTemplate<User> template = SpecificationQueryBuilder.Builder
+ *     .create(User.class, entityManager)
+ *     .equal("status", QueryTemplate.param("status"))
+ *     .greaterEqual("age", QueryTemplate.param("minAge"))
+ *     .orderBy("createdAt", Direction.DESC)
+ *     .template();
+ *
+ * List<User> users = template
+ *     .createQuery(entityManager, Map.of("status", "ACTIVE", "minAge", 20))
+ *     .getResultList();
+ * }</pre>
+ *
+ * @param <T> 엔티티 타입
+ * @since 1.3.0
+ */
+public final class QueryTemplate<T> {
+
+  private static final Logger log = LoggerFactory.getLogger(QueryTemplate.class);
+
+  private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
+
+  private final SpecificationQueryBuilder.CompiledSpecification<T> source;
+  private final Class<T> entityClass;
+  private final TypeConverter typeConverter;
+  private final LongAdder compileCount = new LongAdder();
+  private final LongAdder reuseCount = new LongAdder();
+  private volatile Compiled<T> compiled;
+
+  QueryTemplate(
+      SpecificationQueryBuilder.CompiledSpecification<T> source,
+      Class<T> entityClass,
+      TypeConverter typeConverter) {
+    this.source = source;
+    this.entityClass = entityClass;
+    this.typeConverter = typeConverter;
+  }
+
+  /**
+   * 이름 있는 파라미터 슬롯 생성. 빌더 조건의 값 위치에 사용. 예: builder.equal("status", QueryTemplate.param("status"))
+   *
+   * @param name 파라미터 이름
+   * @return 파라미터 슬롯
+   * @since 1.3.0
+   */
+  public static Parameter param(String name) {
+    if (StringUtils.isBlank(name)) {
+      throw new IllegalArgumentException("Parameter name cannot be blank");
+    }
+    return new Parameter(name.trim());
+  }
+
+  /**
+   * 템플릿으로부터 TypedQuery 생성. 빌더의 쿼리 힌트, limit/offset, fetch 경로(load graph)가 {@link QueryExecutor}와 같이
+   * 적용되며, limit이나 offset이 있으면 정렬 마지막에 tie-breaker가 추가됨. 파라미터는 호출자가 {@link
+   * TypedQuery#setParameter(String, Object)}로 바인딩.
+   *
+   * @param entityManager EntityManager
+   * @return 파라미터가 바인딩되지 않은 TypedQuery
+   * @throws IllegalStateException limit과 컬렉션 fetch 경로를 함께 지정한 경우
+   * @since 1.3.0
+   */
+  public TypedQuery<T> createQuery(EntityManager entityManager) {
+    return prepare(entityManager, compile(entityManager));
+  }
+
+  /**
+   * 템플릿으로부터 TypedQuery 생성 후 파라미터 바인딩. 값은 슬롯 타입으로 자동 변환되며, 빌더 설정은 {@link
+   * #createQuery(EntityManager)}와 같이 적용됨.
+   *
+   * @param entityManager EntityManager
+   * @param values 파라미터 이름별 값
+   * @return 파라미터가 바인딩된 TypedQuery
+   * @throws IllegalArgumentException 바인딩되지 않은 슬롯이 있거나 타입 변환에 실패한 경우
+   * @throws IllegalStateException limit과 컬렉션 fetch 경로를 함께 지정한 경우
+   * @since 1.3.0
+   */
+  public TypedQuery<T> createQuery(EntityManager entityManager, Map<String, ?> values) {
+    Compiled<T> current = compile(entityManager);
+    TypedQuery<T> query = prepare(entityManager, current);
+    for (Map.Entry<String, ParameterExpression<?>> entry : current.parameters.entrySet()) {
+      Object value = values != null ? values.get(entry.getKey()) : null;
+      if (value == null) {
+        throw new IllegalArgumentException("Template parameter not bound: " + entry.getKey());
+      }
+      bind(query, entry.getValue(), current.types.get(entry.getKey()), value);
+    }
+    return query;
+  }
+
+  /**
+   * 템플릿에 선언된 파라미터 이름 목록. 아직 컴파일되지 않았으면 빈 집합.
+   *
+   * @return 파라미터 이름
+   * @since 1.3.0
+   */
+  public Set<String> getParameterNames() {
+    Compiled<T> current = compiled;
+    return current != null ? current.parameters.keySet() : Set.of();
+  }
+
+  /**
+   * CriteriaQuery를 새로 만든 횟수 (퍼시스턴스 유닛별 최초 1회가 정상).
+   *
+   * @return 컴파일 횟수
+   * @since 1.3.0
+   */
+  public long getCompileCount() {
+    return compileCount.sum();
+  }
+
+  /**
+   * 이미 만들어진 CriteriaQuery를 재사용한 횟수.
+   *
+   * @return 재사용 횟수
+   * @since 1.3.0
+   */
+  public long getReuseCount() {
+    return reuseCount.sum();
+  }
+
+  private Compiled<T> compile(EntityManager entityManager) {
+    EntityManagerFactory factory = entityManager.getEntityManagerFactory();
+    Compiled<T> current = compiled;
+    if (current != null && current.factory == factory) {
+      reuseCount.increment();
+      return current;
+    }
+    synchronized (this) {
+      current = compiled;
+      if (current != null && current.factory == factory) {
+        reuseCount.increment();
+        return current;
+      }
+      if (source.getLimit() != null
+          && QueryExecutor.hasCollectionPath(entityManager, entityClass, source.getFetchPaths())) {
+        // 컬렉션 load graph와 limit을 함께 적용하면 JPA 구현체가 메모리에서 페이징함
+        throw new IllegalStateException(
+            "Query template cannot apply limit with collection fetch paths "
+                + source.getFetchPaths()
+                + ", use executor() instead");
+      }
+      CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      CriteriaQuery<T> query = builder.createQuery(entityClass);
+      Root<T> root = query.from(entityClass);
+      QueryContext context = new QueryContext(true, false);
+      if (source.getLimit() != null || source.getOffset() != null) {
+        // 페이지 간 순서가 바뀌지 않도록 QueryExecutor#slice()와 같이 tie-breaker 추가
+        context.setTieBreaker(QueryExecutor.tieBreaker(source, entityManager));
+      }
+      Predicate predicate = source.apply(root, query, builder, context);
+      query.select(root);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+      current =
+          new Compiled<>(
+              factory,
+              query,
+              Map.copyOf(context.getParameters()),
+              Map.copyOf(context.getParameterTypes()));
+      compiled = current;
+      compileCount.increment();
+      log.debug(
+          "Compiled query template for entity: {}, parameters: {}",
+          entityClass.getName(),
+          current.parameters.keySet());
+      return current;
+    }
+  }
+
+  /** TypedQuery 생성 후 힌트, offset/limit, fetch 경로의 load graph를 {@link QueryExecutor}와 같이 적용. */
+  private TypedQuery<T> prepare(EntityManager entityManager, Compiled<T> current) {
+    TypedQuery<T> query = entityManager.createQuery(current.query);
+    QueryHints.defaults().overrideWith(source.getQueryHints()).applyTo(query);
+    Integer offset = source.getOffset();
+    if (offset != null && offset > 0) {
+      query.setFirstResult(offset);
+    }
+    Integer limit = source.getLimit();
+    if (limit != null && limit > 0) {
+      query.setMaxResults(limit);
+    }
+    List<String> fetchPaths = source.getFetchPaths();
+    if (!fetchPaths.isEmpty()) {
+      query.setHint(
+          LOAD_GRAPH_HINT,
+          QueryExecutor.createLoadGraph(entityManager, entityClass, fetchPaths));
+    }
+    return query;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void bind(
+      TypedQuery<T> query, ParameterExpression<?> parameter, Class<?> type, Object value) {
+    Object converted = type.isInstance(value) ? value : typeConverter.convert(value, type);
+    if (converted == null) {
+      throw new IllegalArgumentException(
+          "Cannot convert value for template parameter: "
+              + parameter.getName()
+              + ", expected: "
+              + type.getName()
+              + ", got: "
+              + value.getClass().getName());
+    }
+    query.setParameter((jakarta.persistence.Parameter) parameter, converted);
+  }
+
+  /**
+   * 템플릿 파라미터 슬롯. {@link #param(String)}으로 생성.
+   *
+   * @since 1.3.0
+   */
+  public static final class Parameter {
+    private final String name;
+
+    private Parameter(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public String toString() {
+      return ":" + name;
+    }
+  }
+
+  /** 퍼시스턴스 유닛별로 컴파일된 CriteriaQuery와 파라미터 슬롯, 슬롯 타입. */
+  private static final class Compiled<T> {
+    private final EntityManagerFactory factory;
+    private final CriteriaQuery<T> query;
+    private final Map<String, ParameterExpression<?>> parameters;
+    private final Map<String, Class<?>> types;
+
+    private Compiled(
+        EntityManagerFactory factory,
+        CriteriaQuery<T> query,
+        Map<String, ParameterExpression<?>> parameters,
+        Map<String, Class<?>> types) {
+      this.factory = factory;
+      this.query = query;
+      this.parameters = parameters;
+      this.types = types;
+    }
+  }
+}
@@ -1,33 +1,47 @@
 package io.gitlab.chhyuk.jpa.querybuilder;
 
+import io.gitlab.chhyuk.jpa.querybuilder.function.AttributeCache;
+import io.gitlab.chhyuk.jpa.querybuilder.function.AttributeDescriptor;
 import io.gitlab.chhyuk.jpa.querybuilder.function.ConditionType;
 import io.gitlab.chhyuk.jpa.querybuilder.function.DateParser;
-import io.gitlab.chhyuk.jpa.querybuilder.function.DefaultTypeConverter;
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConversionRegistry;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListOptions;
 import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinStrategy;
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryHints;
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryMetrics;
 import io.gitlab.chhyuk.jpa.querybuilder.function.TypeConverter;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.metamodel.Attribute;
-import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import jakarta.persistence.metamodel.Metamodel;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -96,7 +110,8 @@ public class SpecificationQueryBuilder {
   }
 
   /**
-   * 조인된 엔티티의 ID로 필터링.
+   * 조인된 엔티티의 ID로 필터링. 조인 없이 root.get(joinProperty).get(idProperty) 경로로 비교하므로 단일 연관관계에만 사용 가능하며,
+   * 컬렉션 연관관계는 {@link Builder#equalJoinId(String, String, Object)}를 사용.
    *
    * @param joinProperty 조인 대상 필드
    * @param idProperty ID 필드 이름
@@ -139,44 +154,37 @@ public class SpecificationQueryBuilder {
   }
 
   /**
-   * 날짜 범위 조건 (포함 범위: startDate &lt;= x &lt; endDate + 1).
+   * 날짜 범위 조건 (포함 범위: startDate &lt;= x &lt; endDate + 1). 날짜 문자열은 Specification 생성 시 한 번만 파싱됨.
    *
    * @param propertyName 날짜 필드
    * @param startDate 시작 날짜 (예: "2025-09-01", null 시 무시)
    * @param endDate 종료 날짜 (예: "2025-09-30", null 시 무시)
    * @param dateParser 프로젝트별 날짜 파서 (기본: yyyy-MM-dd, 시스템 시간대)
    * @return Specification 객체
-   * @throws DateTimeParseException 잘못된 날짜 포맷일 경우
+   * @throws DateTimeParseException 잘못된 날짜 포맷일 경우 (Specification 생성 시점에 발생)
    * @since 1.0.0
    */
   public static <T> Specification<T> dateRangeBetween(
       String propertyName, String startDate, String endDate, DateParser dateParser) {
-    return (root, query, builder) -> {
-      List<Predicate> predicates = new ArrayList<>();
+    ZonedDateTime start = StringUtils.isNotBlank(startDate) ? dateParser.parse(startDate) : null;
+    // 종료 날짜는 exclusive이므로 하루를 추가
+    ZonedDateTime end =
+        StringUtils.isNotBlank(endDate) ? dateParser.parse(endDate).plusDays(1) : null;
 
-      try {
-        if (StringUtils.isNotBlank(startDate)) {
-          ZonedDateTime start = dateParser.parse(startDate);
-          predicates.add(builder.greaterThanOrEqualTo(root.get(propertyName), start));
-        }
-        if (StringUtils.isNotBlank(endDate)) {
-          ZonedDateTime end = dateParser.parse(endDate);
-          // 종료 날짜는 exclusive이므로 하루를 추가
-          predicates.add(builder.lessThan(root.get(propertyName), end.plusDays(1)));
-        }
-      } catch (DateTimeParseException e) {
-        log.warn(
-            "Invalid date format for property: {}, startDate: {}, endDate: {}",
-            propertyName,
-            startDate,
-            endDate,
-            e);
+    return (root, query, builder) -> {
+      if (start == null && end == null) {
+        log.debug("Skipping date range condition for property: {}, dates are blank", propertyName);
         return builder.conjunction();
       }
-
-      return predicates.isEmpty()
-          ? builder.conjunction()
-          : builder.and(predicates.toArray(new Predicate[0]));
+      if (start == null) {
+        return builder.lessThan(root.get(propertyName), end);
+      }
+      if (end == null) {
+        return builder.greaterThanOrEqualTo(root.get(propertyName), start);
+      }
+      return builder.and(
+          builder.greaterThanOrEqualTo(root.get(propertyName), start),
+          builder.lessThan(root.get(propertyName), end));
     };
   }
 
@@ -203,7 +211,9 @@ public class SpecificationQueryBuilder {
    */
   public static <T> Specification<T> orderBy(String field, Direction direction) {
     return (root, query, builder) -> {
-      if (StringUtils.isNotBlank(field)) {
+      if (QueryContext.isCountQuery(query)) {
+        log.debug("Skipping ORDER BY condition for count query");
+      } else if (StringUtils.isNotBlank(field)) {
         Path<?> path = root.get(field);
         Order order = direction == Direction.DESC ? builder.desc(path) : builder.asc(path);
         query.orderBy(order);
@@ -230,37 +240,119 @@ public class SpecificationQueryBuilder {
    */
   public static <T> Specification<T> joinWithConditions(
       String joinProperty, List<JoinCondition> conditions, JoinType joinType) {
-    return (root, query, builder) -> {
-      if (conditions == null || conditions.isEmpty()) {
-        log.debug("No conditions provided for join on property: {}, skipping join", joinProperty);
-        return builder.conjunction();
-      }
+    return joinWithConditions(joinProperty, conditions, joinType, JoinStrategy.JOIN);
+  }
 
-      List<JoinCondition> validConditions =
-          conditions.stream()
-              .filter(
-                  c ->
-                      c.getValue() != null
-                          || c.getType() == ConditionType.IS_NULL
-                          || c.getType() == ConditionType.IS_NOT_NULL)
-              .toList();
+  /**
+   * 복잡한 조인 조건 처리 (조인 전략 지정 가능). {@link JoinStrategy#EXISTS}를 사용하면 to-many 조건을 상관 EXISTS 서브쿼리로 표현하여 루트
+   * 쿼리에 DISTINCT가 붙지 않음. 예: joinWithConditions("members",
+   * List.of(JoinCondition.equal("role", "ADMIN")), JoinType.INNER, JoinStrategy.EXISTS)
+   *
+   * <p>정적 메서드로 만든 Specification은 각자 별도의 QueryContext를 사용하므로 다른 Specification과 조인을 공유하지 않음 (같은
+   * 연관관계를 조건으로 쓰는 Specification을 여러 개 결합하면 조인도 여러 번 생성됨). IN 목록 설정, 메트릭, 타입 변환기도 기본값을
+   * 사용함. 조인 공유와 빌더 설정이 필요하면 {@link Builder#joinWithConditions(String, List, JoinType, JoinStrategy)}를 사용.
+   *
+   * @param joinProperty 조인 대상 필드
+   * @param conditions 조인 조건 리스트
+   * @param joinType 조인 타입 (JOIN 전략에서만 사용, EXISTS 서브쿼리는 항상 INNER)
+   * @param strategy 조인 전략
+   * @return Specification 객체
+   * @since 1.3.0
+   */
+  public static <T> Specification<T> joinWithConditions(
+      String joinProperty, List<JoinCondition> conditions, JoinType joinType, JoinStrategy strategy) {
+    return (root, query, builder) ->
+        joinPredicate(
+            root,
+            query,
+            builder,
+            QueryContext.of(query),
+            joinProperty,
+            conditions,
+            joinType,
+            strategy);
+  }
 
-      if (validConditions.isEmpty()) {
-        log.debug("No valid conditions for join on property: {}, skipping join", joinProperty);
-        return builder.conjunction();
-      }
+  /**
+   * 조인 조건 Predicate 생성. JOIN 전략의 조인은 QueryContext에 등록되어 같은 쿼리 안의 다른 조건, 정렬과 공유되고, EXISTS 전략의 조인은
+   * 서브쿼리 안에만 존재함.
+   *
+   * @since 1.3.0
+   */
+  private static Predicate joinPredicate(
+      Root<?> root,
+      CriteriaQuery<?> query,
+      CriteriaBuilder builder,
+      QueryContext context,
+      String joinProperty,
+      List<JoinCondition> conditions,
+      JoinType joinType,
+      JoinStrategy strategy) {
+    if (conditions == null || conditions.isEmpty()) {
+      log.debug("No conditions provided for join on property: {}, skipping join", joinProperty);
+      return builder.conjunction();
+    }
 
-      try {
-        Join<T, ?> join = root.join(joinProperty, joinType);
-        query.distinct(true); // 중복 제거
-        List<Predicate> predicates =
-            validConditions.stream().map(c -> createPredicate(join, c, builder)).toList();
-        return builder.and(predicates.toArray(new Predicate[0]));
-      } catch (IllegalArgumentException e) {
-        log.warn("Invalid join property: {}", joinProperty, e);
-        return builder.conjunction();
+    List<JoinCondition> validConditions =
+        conditions.stream()
+            .filter(
+                c ->
+                    c.getValue() != null
+                        || c.getType() == ConditionType.IS_NULL
+                        || c.getType() == ConditionType.IS_NOT_NULL)
+            .toList();
+    if (context.isMetricsEnabled() && validConditions.size() < conditions.size()) {
+      conditions.stream()
+          .filter(c -> !validConditions.contains(c))
+          .forEach(c -> context.getMetrics().recordSkipped(c.getType(), c.getField()));
+    }
+
+    if (validConditions.isEmpty()) {
+      log.debug("No valid conditions for join on property: {}, skipping join", joinProperty);
+      return builder.conjunction();
+    }
+
+    try {
+      if (strategy == JoinStrategy.EXISTS) {
+        return existsPredicate(root, query, builder, context, joinProperty, validConditions);
       }
-    };
+      Join<?, ?> join = context.join(root, joinProperty, joinType);
+      // to-many 조인만 행이 중복되므로 DISTINCT 적용 (count 쿼리는 Spring Data가 count(distinct)로 변환)
+      if (join.getAttribute().isCollection()) {
+        query.distinct(true);
+      }
+      List<Predicate> predicates =
+          validConditions.stream().map(c -> createPredicate(join, c, builder, context)).toList();
+      return builder.and(predicates.toArray(new Predicate[0]));
+    } catch (IllegalArgumentException e) {
+      log.warn("Invalid join property: {}", joinProperty, e);
+      context.getMetrics().recordInvalidProperty(joinProperty);
+      return builder.conjunction();
+    }
+  }
+
+  /**
+   * 조인 조건을 상관 EXISTS 서브쿼리로 변환. 예: EXISTS (SELECT 1 FROM Member m WHERE m.team = t AND m.role = ?)
+   *
+   * @since 1.3.0
+   */
+  private static Predicate existsPredicate(
+      Root<?> root,
+      CriteriaQuery<?> query,
+      CriteriaBuilder builder,
+      QueryContext context,
+      String joinProperty,
+      List<JoinCondition> conditions) {
+    Subquery<Integer> subquery = query.subquery(Integer.class);
+    From<?, ?> join = subquery.correlate(root);
+    for (String segment : StringUtils.split(joinProperty, '.')) {
+      join = join.join(segment, JoinType.INNER);
+    }
+    Join<?, ?> target = (Join<?, ?>) join;
+    List<Predicate> predicates =
+        conditions.stream().map(c -> createPredicate(target, c, builder, context)).toList();
+    subquery.select(builder.literal(1)).where(predicates.toArray(new Predicate[0]));
+    return builder.exists(subquery);
   }
 
   /**
@@ -269,10 +361,13 @@ public class SpecificationQueryBuilder {
    * @since 1.0.0
    */
   @SuppressWarnings("unchecked")
-  private static <T> Predicate createPredicate(
-      Join<T, ?> join, JoinCondition condition, CriteriaBuilder builder) {
+  private static Predicate createPredicate(
+      Join<?, ?> join, JoinCondition condition, CriteriaBuilder builder, QueryContext context) {
     String field = condition.getField();
     Object value = condition.getValue();
+    if (context.isMetricsEnabled()) {
+      context.getMetrics().recordCondition(condition.getType());
+    }
 
     try {
       return switch (condition.getType()) {
@@ -286,6 +381,7 @@ public class SpecificationQueryBuilder {
         case LIKE_IGNORE_CASE -> {
           if (StringUtils.isBlank((String) value)) {
             log.debug("Skipping LIKE_IGNORE_CASE condition for field: {}, value is blank", field);
+            context.getMetrics().recordSkipped(condition.getType(), field);
             yield builder.conjunction();
           }
           Expression<String> fieldExpr = builder.lower(join.get(field).as(String.class));
@@ -302,11 +398,13 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 value.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (!(value instanceof Comparable)) {
             log.warn(
                 "Value for GREATER_THAN must be Comparable, field: {}, value: {}", field, value);
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           Comparable<Object> comparableValue = (Comparable<Object>) value;
@@ -320,11 +418,13 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 value.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (!(value instanceof Comparable)) {
             log.warn(
                 "Value for GREATER_EQUAL must be Comparable, field: {}, value: {}", field, value);
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           Comparable<Object> comparableValue = (Comparable<Object>) value;
@@ -338,10 +438,12 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 value.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (!(value instanceof Comparable)) {
             log.warn("Value for LESS_THAN must be Comparable, field: {}, value: {}", field, value);
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           Comparable<Object> comparableValue = (Comparable<Object>) value;
@@ -355,54 +457,44 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 value.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (!(value instanceof Comparable)) {
             log.warn("Value for LESS_EQUAL must be Comparable, field: {}, value: {}", field, value);
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           Comparable<Object> comparableValue = (Comparable<Object>) value;
           yield builder.lessThanOrEqualTo(join.get(field), comparableValue);
         }
         case IN -> {
-          CriteriaBuilder.In<Object> inClause = builder.in(join.get(field));
-          if (value instanceof Collection<?> collection) {
-            if (collection.isEmpty()) {
-              log.debug("Skipping IN condition for field: {}, values are empty", field);
-              yield builder.conjunction();
-            }
-            collection.forEach(inClause::value);
-          } else if (value.getClass().isArray()) {
-            Object[] array = (Object[]) value;
-            if (array.length == 0) {
-              log.debug("Skipping IN condition for field: {}, values are empty", field);
-              yield builder.conjunction();
-            }
-            Arrays.stream(array).forEach(inClause::value);
-          } else {
-            inClause.value(value);
+          Collection<?> values = inValues(value);
+          if (values.isEmpty()) {
+            log.debug("Skipping IN condition for field: {}, values are empty", field);
+            context.getMetrics().recordSkipped(condition.getType(), field);
+            yield builder.conjunction();
           }
-          yield inClause;
+          yield InListPredicates.in(
+              builder,
+              join.get(field),
+              values,
+              context.getInListOptions(),
+              context.getTypeConverter());
         }
         case NOT_IN -> {
-          CriteriaBuilder.In<Object> inClause = builder.in(join.get(field));
-          if (value instanceof Collection<?> collection) {
-            if (collection.isEmpty()) {
-              log.debug("Skipping NOT_IN condition for field: {}, values are empty", field);
-              yield builder.conjunction();
-            }
-            collection.forEach(inClause::value);
-          } else if (value.getClass().isArray()) {
-            Object[] array = (Object[]) value;
-            if (array.length == 0) {
-              log.debug("Skipping NOT_IN condition for field: {}, values are empty", field);
-              yield builder.conjunction();
-            }
-            Arrays.stream(array).forEach(inClause::value);
-          } else {
-            inClause.value(value);
+          Collection<?> values = inValues(value);
+          if (values.isEmpty()) {
+            log.debug("Skipping NOT_IN condition for field: {}, values are empty", field);
+            context.getMetrics().recordSkipped(condition.getType(), field);
+            yield builder.conjunction();
           }
-          yield builder.not(inClause);
+          yield InListPredicates.notIn(
+              builder,
+              join.get(field),
+              values,
+              context.getInListOptions(),
+              context.getTypeConverter());
         }
         case IS_NULL -> builder.isNull(join.get(field));
         case IS_NOT_NULL -> builder.isNotNull(join.get(field));
@@ -415,6 +507,7 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 value.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (secondValue != null && !path.getJavaType().isInstance(secondValue)) {
@@ -423,11 +516,13 @@ public class SpecificationQueryBuilder {
                 field,
                 path.getJavaType().getName(),
                 secondValue.getClass().getName());
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           if (!(value instanceof Comparable)
               || !(condition.getSecondValue() instanceof Comparable)) {
             log.warn("Values for BETWEEN must be Comparable, field: {}, value: {}", field, value);
+            context.getMetrics().recordTypeMismatch(condition.getType(), field);
             yield builder.conjunction();
           }
           Comparable<Object> startValue = (Comparable<Object>) value;
@@ -435,12 +530,44 @@ public class SpecificationQueryBuilder {
           yield builder.between(join.get(field), startValue, endValue);
         }
       };
+    } catch (ClassCastException e) {
+      // LIKE 계열 조건에 문자열이 아닌 값이 전달된 경우
+      log.warn(
+          "Type mismatch for field: {}, type: {}, value: {}", field, condition.getType(), value, e);
+      context.getMetrics().recordTypeMismatch(condition.getType(), field);
+      return builder.conjunction();
     } catch (IllegalArgumentException e) {
       log.warn("Failed to create predicate for field: {}, type: {}", field, condition.getType(), e);
+      if (isAttribute(join, field)) {
+        context.getMetrics().recordTypeMismatch(condition.getType(), field);
+      } else {
+        context.getMetrics().recordInvalidProperty(field);
+      }
       return builder.conjunction();
     }
   }
 
+  /** 조인 대상 엔티티에 속성이 있는지 확인 (잘못된 속성과 잘못된 값을 구분하여 메트릭에 기록). */
+  private static boolean isAttribute(Join<?, ?> join, String field) {
+    try {
+      join.get(field);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /** JoinCondition의 IN 값(컬렉션, 배열, 단일 값)을 컬렉션으로 변환. */
+  private static Collection<?> inValues(Object value) {
+    if (value instanceof Collection<?> collection) {
+      return collection;
+    }
+    if (value.getClass().isArray()) {
+      return Arrays.asList((Object[]) value);
+    }
+    return List.of(value);
+  }
+
   /** 정렬 정보를 담는 내부 클래스. */
   private static class OrderInfo {
     private final String field;
@@ -476,6 +603,18 @@ public class SpecificationQueryBuilder {
     }
   }
 
+  /**
+   * Specification의 결과가 항상 비어 있는지 확인. 예: if (SpecificationQueryBuilder.isUnsatisfiable(spec)) return
+   * Page.empty(pageable);
+   *
+   * @param specification Specification
+   * @return {@link CompiledSpecification#isUnsatisfiable()}이 true이면 true, 그 외 Specification은 false
+   * @since 1.3.0
+   */
+  public static boolean isUnsatisfiable(Specification<?> specification) {
+    return specification instanceof CompiledSpecification<?> compiled && compiled.isUnsatisfiable();
+  }
+
   /**
    * 특정 엔티티 타입에 대한 Specification을 체이닝 방식으로 생성하는 빌더.
    *
@@ -483,10 +622,10 @@ public class SpecificationQueryBuilder {
    * @since 1.0.0
    */
   public static class Builder<T> {
-    private final List<Specification<T>> specifications;
+    private final List<Condition<T>> conditions;
     private final Class<T> entityClass;
     private final EntityManager entityManager;
-    private final TypeConverter typeConverter = new DefaultTypeConverter();
+    private TypeConverter typeConverter = ConversionRegistry.defaults();
 
     // Phase 1: 정렬, 페이징, 로깅을 위한 필드
     private final List<OrderInfo> orderByList = new ArrayList<>();
@@ -494,10 +633,40 @@ public class SpecificationQueryBuilder {
     private Integer offsetValue;
     private boolean enableQueryLogging = false;
 
+    // 키셋(seek) 페이징
+    private boolean keysetEnabled = false;
+    private boolean seekBackward = false;
+    private KeysetCursor seekCursor;
+    private String tieBreaker;
+
+    // 조인 조건 표현 방식 (joinWithConditions에서 전략을 지정하지 않은 경우)
+    private JoinStrategy joinStrategy = JoinStrategy.JOIN;
+
+    // IN 목록 패딩/분할/배열 파라미터 설정
+    private InListOptions inListOptions = InListOptions.defaults();
+
+    // 메트릭 수집 (기본값은 아무 작업도 하지 않음)
+    private QueryMetrics metrics = QueryMetrics.noop();
+
+    // 조건 트리 최적화 여부
+    private boolean optimize = false;
+
+    // 값이 없어 추가 시점에 제외된 조건 (메트릭 기록용)
+    private final List<SkippedCondition> skipped = new ArrayList<>();
+
+    // 프로젝션 조회 시 선택할 속성 경로
+    private final List<String> selections = new ArrayList<>();
+
+    // 엔티티 조회 시 함께 로딩할 연관관계 경로
+    private final List<String> fetchPaths = new ArrayList<>();
+
+    // 쿼리 실행 힌트 (지정하지 않은 항목은 QueryHints.defaults() 사용)
+    private QueryHints queryHints = QueryHints.empty();
+
     private Builder(Class<T> entityClass, EntityManager entityManager) {
       this.entityClass = entityClass;
       this.entityManager = entityManager;
-      this.specifications = new ArrayList<>();
+      this.conditions = new ArrayList<>();
     }
 
     /**
@@ -529,41 +698,51 @@ public class SpecificationQueryBuilder {
      * EQUAL 조건 추가. 예: builder.equal("email", "test@example.com")
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값 (null인 경우 조건 무시)
+     * @param value 비교 값 (null인 경우 조건 무시, {@link QueryTemplate#param(String)} 사용 가능)
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public Builder<T> equal(String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug("Skipping equal condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
+      if (value == null) {
+        return skip(ConditionType.EQUAL, propertyName, "value is null");
+      }
+      return add(
+          ConditionType.EQUAL,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            if (value instanceof QueryTemplate.Parameter parameter) {
+              Path<?> path = context.get(root, propertyName);
+              return builder.equal(path, context.parameter(builder, path.getJavaType(), parameter));
             }
-            return builder.equal(root.get(propertyName), value);
+            return builder.equal(context.get(root, propertyName), value);
           });
-      return this;
     }
 
     /**
      * NOT_EQUAL 조건 추가. 예: builder.notEqual("role", "GUEST")
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값
+     * @param value 비교 값 ({@link QueryTemplate#param(String)} 사용 가능)
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public Builder<T> notEqual(String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug(
-                  "Skipping notEqual condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
+      if (value == null) {
+        return skip(ConditionType.NOT_EQUAL, propertyName, "value is null");
+      }
+      return add(
+          ConditionType.NOT_EQUAL,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            if (value instanceof QueryTemplate.Parameter parameter) {
+              Path<?> path = context.get(root, propertyName);
+              return builder.notEqual(
+                  path, context.parameter(builder, path.getJavaType(), parameter));
             }
-            return builder.notEqual(root.get(propertyName), value);
+            return builder.notEqual(context.get(root, propertyName), value);
           });
-      return this;
     }
 
     /**
@@ -575,16 +754,17 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> like(String propertyName, String value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (StringUtils.isBlank(value)) {
-              log.debug("Skipping LIKE condition for property: {}, value is blank", propertyName);
-              return builder.conjunction();
-            }
+      if (StringUtils.isBlank(value)) {
+        return skip(ConditionType.LIKE, propertyName, "value is blank");
+      }
+      return add(
+          ConditionType.LIKE,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
             return builder.like(
-                root.get(propertyName).as(String.class), StringUtils.wrap(value, "%"));
+                context.get(root, propertyName).as(String.class), StringUtils.wrap(value, "%"));
           });
-      return this;
     }
 
     /**
@@ -596,17 +776,17 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> notLike(String propertyName, String value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (StringUtils.isBlank(value)) {
-              log.debug(
-                  "Skipping NOT_LIKE condition for property: {}, value is blank", propertyName);
-              return builder.conjunction();
-            }
+      if (StringUtils.isBlank(value)) {
+        return skip(ConditionType.NOT_LIKE, propertyName, "value is blank");
+      }
+      return add(
+          ConditionType.NOT_LIKE,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
             return builder.notLike(
-                root.get(propertyName).as(String.class), StringUtils.wrap(value, "%"));
+                context.get(root, propertyName).as(String.class), StringUtils.wrap(value, "%"));
           });
-      return this;
     }
 
     /**
@@ -618,19 +798,18 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> likeIgnoreCase(String propertyName, String value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (StringUtils.isBlank(value)) {
-              log.debug(
-                  "Skipping LIKE_IGNORE_CASE condition for property: {}, value is blank",
-                  propertyName);
-              return builder.conjunction();
-            }
-            Expression<String> field = builder.lower(root.get(propertyName).as(String.class));
+      if (StringUtils.isBlank(value)) {
+        return skip(ConditionType.LIKE_IGNORE_CASE, propertyName, "value is blank");
+      }
+      return add(
+          ConditionType.LIKE_IGNORE_CASE,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            Expression<String> field = builder.lower(context.get(root, propertyName).as(String.class));
             String pattern = StringUtils.wrap(value.trim().toLowerCase(), "%");
             return builder.like(field, pattern);
           });
-      return this;
     }
 
     /**
@@ -642,16 +821,16 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> likeStart(String propertyName, String value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (StringUtils.isBlank(value)) {
-              log.debug(
-                  "Skipping LIKE_START condition for property: {}, value is blank", propertyName);
-              return builder.conjunction();
-            }
-            return builder.like(root.get(propertyName).as(String.class), value + "%");
+      if (StringUtils.isBlank(value)) {
+        return skip(ConditionType.LIKE_START, propertyName, "value is blank");
+      }
+      return add(
+          ConditionType.LIKE_START,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            return builder.like(context.get(root, propertyName).as(String.class), value + "%");
           });
-      return this;
     }
 
     /**
@@ -663,132 +842,44 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> likeEnd(String propertyName, String value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (StringUtils.isBlank(value)) {
-              log.debug(
-                  "Skipping LIKE_END condition for property: {}, value is blank", propertyName);
-              return builder.conjunction();
-            }
-            return builder.like(root.get(propertyName).as(String.class), "%" + value);
+      if (StringUtils.isBlank(value)) {
+        return skip(ConditionType.LIKE_END, propertyName, "value is blank");
+      }
+      return add(
+          ConditionType.LIKE_END,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            return builder.like(context.get(root, propertyName).as(String.class), "%" + value);
           });
-      return this;
     }
 
     /**
      * GREATER_THAN 조건 추가. 예: builder.greaterThan("age", 18) 타입 불일치 시 변환 시도 후 조건 무시 (로그 기록).
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값 (Comparable 구현 필요)
+     * @param value 비교 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
      * @param <V> Comparable 타입
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public <V extends Comparable<? super V>> Builder<T> greaterThan(
         String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug(
-                  "Skipping GREATER_THAN condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
-            }
-            Class<?> targetType;
-            if (entityManager != null && entityClass != null) {
-              Metamodel metamodel = entityManager.getMetamodel();
-              EntityType<T> entity = metamodel.entity(entityClass);
-              Attribute<? super T, ?> attribute;
-              try {
-                attribute = entity.getAttribute(propertyName);
-              } catch (IllegalArgumentException e) {
-                log.warn(
-                    "Invalid property: {} for entity: {}", propertyName, entityClass.getName());
-                return builder.conjunction();
-              }
-              targetType = attribute.getJavaType();
-            } else {
-              Path<?> path = root.get(propertyName);
-              targetType = path.getJavaType();
-            }
-            Object convertedValue = typeConverter.convert(value, targetType);
-            if (!targetType.isInstance(convertedValue)) {
-              log.warn(
-                  "Type mismatch for property: {}, expected: {}, got: {}",
-                  propertyName,
-                  targetType.getName(),
-                  value.getClass().getName());
-              return builder.conjunction();
-            }
-            if (!(convertedValue instanceof Comparable)) {
-              log.warn(
-                  "Value for GREATER_THAN must be Comparable, property: {}, value: {}",
-                  propertyName,
-                  value);
-              return builder.conjunction();
-            }
-            @SuppressWarnings("unchecked")
-            Comparable<Object> comparableValue = (Comparable<Object>) convertedValue;
-            return builder.greaterThan(root.get(propertyName), comparableValue);
-          });
-      return this;
+      return comparison(ConditionType.GREATER_THAN, propertyName, value);
     }
 
     /**
      * GREATER_EQUAL 조건 추가. 예: builder.greaterEqual("salary", 50000) 타입 불일치 시 변환 시도 후 조건 무시 (로그 기록).
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값 (Comparable 구현 필요)
+     * @param value 비교 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
      * @param <V> Comparable 타입
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public <V extends Comparable<? super V>> Builder<T> greaterEqual(
         String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug(
-                  "Skipping GREATER_EQUAL condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
-            }
-            Class<?> targetType;
-            if (entityManager != null && entityClass != null) {
-              Metamodel metamodel = entityManager.getMetamodel();
-              EntityType<T> entity = metamodel.entity(entityClass);
-              Attribute<? super T, ?> attribute;
-              try {
-                attribute = entity.getAttribute(propertyName);
-              } catch (IllegalArgumentException e) {
-                log.warn(
-                    "Invalid property: {} for entity: {}", propertyName, entityClass.getName());
-                return builder.conjunction();
-              }
-              targetType = attribute.getJavaType();
-            } else {
-              Path<?> path = root.get(propertyName);
-              targetType = path.getJavaType();
-            }
-            Object convertedValue = typeConverter.convert(value, targetType);
-            if (!targetType.isInstance(convertedValue)) {
-              log.warn(
-                  "Type mismatch for property: {}, expected: {}, got: {}",
-                  propertyName,
-                  targetType.getName(),
-                  value.getClass().getName());
-              return builder.conjunction();
-            }
-            if (!(convertedValue instanceof Comparable)) {
-              log.warn(
-                  "Value for GREATER_EQUAL must be Comparable, property: {}, value: {}",
-                  propertyName,
-                  value);
-              return builder.conjunction();
-            }
-            @SuppressWarnings("unchecked")
-            Comparable<Object> comparableValue = (Comparable<Object>) convertedValue;
-            return builder.greaterThanOrEqualTo(root.get(propertyName), comparableValue);
-          });
-      return this;
+      return comparison(ConditionType.GREATER_EQUAL, propertyName, value);
     }
 
     /**
@@ -796,58 +887,14 @@ public class SpecificationQueryBuilder {
      * (로그 기록).
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값 (Comparable 구현 필요)
+     * @param value 비교 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
      * @param <V> Comparable 타입
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public <V extends Comparable<? super V>> Builder<T> lessThan(
         String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug(
-                  "Skipping LESS_THAN condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
-            }
-            Class<?> targetType;
-            if (entityManager != null && entityClass != null) {
-              Metamodel metamodel = entityManager.getMetamodel();
-              EntityType<T> entity = metamodel.entity(entityClass);
-              Attribute<? super T, ?> attribute;
-              try {
-                attribute = entity.getAttribute(propertyName);
-              } catch (IllegalArgumentException e) {
-                log.warn(
-                    "Invalid property: {} for entity: {}", propertyName, entityClass.getName());
-                return builder.conjunction();
-              }
-              targetType = attribute.getJavaType();
-            } else {
-              Path<?> path = root.get(propertyName);
-              targetType = path.getJavaType();
-            }
-            Object convertedValue = typeConverter.convert(value, targetType);
-            if (!targetType.isInstance(convertedValue)) {
-              log.warn(
-                  "Type mismatch for property: {}, expected: {}, got: {}",
-                  propertyName,
-                  targetType.getName(),
-                  value.getClass().getName());
-              return builder.conjunction();
-            }
-            if (!(convertedValue instanceof Comparable)) {
-              log.warn(
-                  "Value for LESS_THAN must be Comparable, property: {}, value: {}",
-                  propertyName,
-                  value);
-              return builder.conjunction();
-            }
-            @SuppressWarnings("unchecked")
-            Comparable<Object> comparableValue = (Comparable<Object>) convertedValue;
-            return builder.lessThan(root.get(propertyName), comparableValue);
-          });
-      return this;
+      return comparison(ConditionType.LESS_THAN, propertyName, value);
     }
 
     /**
@@ -855,100 +902,133 @@ public class SpecificationQueryBuilder {
      * 무시 (로그 기록).
      *
      * @param propertyName 필드 이름
-     * @param value 비교 값 (Comparable 구현 필요)
+     * @param value 비교 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
      * @param <V> Comparable 타입
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public <V extends Comparable<? super V>> Builder<T> lessEqual(
         String propertyName, Object value) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (value == null) {
-              log.debug(
-                  "Skipping LESS_EQUAL condition for property: {}, value is null", propertyName);
-              return builder.conjunction();
+      return comparison(ConditionType.LESS_EQUAL, propertyName, value);
+    }
+
+    /**
+     * 비교 조건(GREATER_THAN, GREATER_EQUAL, LESS_THAN, LESS_EQUAL) 공통 처리.
+     *
+     * @since 1.3.0
+     */
+    private Builder<T> comparison(ConditionType type, String propertyName, Object value) {
+      if (value == null) {
+        return skip(type, propertyName, "value is null");
+      }
+      return add(comparisonCondition(type, propertyName, value));
+    }
+
+    /** 비교 조건 생성. 조건 최적화에서 범위를 합친 조건을 만들 때도 사용. */
+    private TypedCondition<T> comparisonCondition(
+        ConditionType type, String propertyName, Object value) {
+      return new TypedCondition<>(
+          type,
+          propertyName,
+          new Object[] {value},
+          (root, query, builder, context) -> {
+            Class<?> targetType = resolveTargetType(root, propertyName, context);
+            if (targetType == null) {
+              return null;
             }
-            Class<?> targetType;
-            if (entityManager != null && entityClass != null) {
-              Metamodel metamodel = entityManager.getMetamodel();
-              EntityType<T> entity = metamodel.entity(entityClass);
-              Attribute<? super T, ?> attribute;
-              try {
-                attribute = entity.getAttribute(propertyName);
-              } catch (IllegalArgumentException e) {
-                log.warn(
-                    "Invalid property: {} for entity: {}", propertyName, entityClass.getName());
-                return builder.conjunction();
-              }
-              targetType = attribute.getJavaType();
-            } else {
-              Path<?> path = root.get(propertyName);
-              targetType = path.getJavaType();
+            if (value instanceof QueryTemplate.Parameter parameter) {
+              return compare(
+                  builder,
+                  type,
+                  context.get(root, propertyName),
+                  context.parameter(builder, targetType, parameter));
             }
-            Object convertedValue = typeConverter.convert(value, targetType);
+            Object convertedValue = context.getTypeConverter().convert(value, targetType);
             if (!targetType.isInstance(convertedValue)) {
               log.warn(
                   "Type mismatch for property: {}, expected: {}, got: {}",
                   propertyName,
                   targetType.getName(),
                   value.getClass().getName());
-              return builder.conjunction();
+              context.getMetrics().recordTypeMismatch(type, propertyName);
+              return null;
             }
             if (!(convertedValue instanceof Comparable)) {
               log.warn(
-                  "Value for LESS_EQUAL must be Comparable, property: {}, value: {}",
+                  "Value for {} must be Comparable, property: {}, value: {}",
+                  type,
                   propertyName,
                   value);
-              return builder.conjunction();
+              context.getMetrics().recordTypeMismatch(type, propertyName);
+              return null;
             }
-            @SuppressWarnings("unchecked")
-            Comparable<Object> comparableValue = (Comparable<Object>) convertedValue;
-            return builder.lessThanOrEqualTo(root.get(propertyName), comparableValue);
+            return compare(builder, type, context.get(root, propertyName), convertedValue);
           });
-      return this;
     }
 
     /**
      * BETWEEN 조건 추가. 예: builder.between("birthDate", ZonedDateTime.now().minusYears(30),
-     * ZonedDateTime.now().minusYears(18)) 타입 불일치 시 변환 시도 후 조건 무시 (로그 기록).
+     * ZonedDateTime.now().minusYears(18)) 타입 불일치 시 변환 시도 후 조건 무시 (로그 기록). 시작 값과 종료 값을 속성 타입으로 변환한
+     * 결과 시작 값이 더 크면 결과가 없는 조건({@link #none()})으로 추가됨 (속성 타입을 알 수 있는 경우만).
      *
      * @param propertyName 필드 이름
-     * @param start 시작 값 (Comparable 구현 필요)
-     * @param end 종료 값 (Comparable 구현 필요)
+     * @param start 시작 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
+     * @param end 종료 값 (Comparable 구현 필요, {@link QueryTemplate#param(String)} 사용 가능)
      * @param <V> Comparable 타입
      * @return 빌더 인스턴스
      * @since 1.0.0
      */
     public <V extends Comparable<? super V>> Builder<T> between(
         String propertyName, Object start, Object end) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (start == null || end == null) {
-              log.debug(
-                  "Skipping BETWEEN condition for property: {}, start or end is null",
-                  propertyName);
-              return builder.conjunction();
+      if (start == null || end == null) {
+        return skip(ConditionType.BETWEEN, propertyName, "start or end is null");
+      }
+      // 속성 타입으로 변환한 값끼리 비교 (타입을 알 수 없으면 판단하지 않음)
+      Metamodel metamodel = entityManager != null ? entityManager.getMetamodel() : null;
+      Object convertedStart = convertToAttributeType(metamodel, propertyName, start);
+      Object convertedEnd = convertToAttributeType(metamodel, propertyName, end);
+      if (convertedStart instanceof Comparable && convertedEnd != null) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        int cmp = ((Comparable) convertedStart).compareTo(convertedEnd);
+        if (cmp > 0) {
+          log.debug("BETWEEN start is after end for property: {}, no rows match", propertyName);
+          return none();
+        }
+      }
+      return add(betweenCondition(propertyName, start, end));
+    }
+
+    /** BETWEEN 조건 생성. 조건 최적화에서 범위를 합친 조건을 만들 때도 사용. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TypedCondition<T> betweenCondition(String propertyName, Object start, Object end) {
+      return new TypedCondition<>(
+          ConditionType.BETWEEN,
+          propertyName,
+          new Object[] {start, end},
+          (root, query, builder, context) -> {
+            Class<?> targetType = resolveTargetType(root, propertyName, context);
+            if (targetType == null) {
+              return null;
             }
-            Class<?> targetType;
-            if (entityManager != null && entityClass != null) {
-              Metamodel metamodel = entityManager.getMetamodel();
-              EntityType<T> entity = metamodel.entity(entityClass);
-              Attribute<? super T, ?> attribute;
-              try {
-                attribute = entity.getAttribute(propertyName);
-              } catch (IllegalArgumentException e) {
+            if (start instanceof QueryTemplate.Parameter
+                || end instanceof QueryTemplate.Parameter) {
+              Expression startExpr = boundExpression(builder, context, targetType, start);
+              Expression endExpr = boundExpression(builder, context, targetType, end);
+              if (startExpr == null || endExpr == null) {
                 log.warn(
-                    "Invalid property: {} for entity: {}", propertyName, entityClass.getName());
-                return builder.conjunction();
+                    "Type mismatch for property: {}, expected: {}, got start: {}, end: {}",
+                    propertyName,
+                    targetType.getName(),
+                    start.getClass().getName(),
+                    end.getClass().getName());
+                context.getMetrics().recordTypeMismatch(ConditionType.BETWEEN, propertyName);
+                return null;
               }
-              targetType = attribute.getJavaType();
-            } else {
-              Path<?> path = root.get(propertyName);
-              targetType = path.getJavaType();
+              return builder.between((Expression) context.get(root, propertyName), startExpr, endExpr);
             }
-            Object convertedStart = typeConverter.convert(start, targetType);
-            Object convertedEnd = typeConverter.convert(end, targetType);
+            TypeConverter converter = context.getTypeConverter();
+            Object convertedStart = converter.convert(start, targetType);
+            Object convertedEnd = converter.convert(end, targetType);
             if (!targetType.isInstance(convertedStart) || !targetType.isInstance(convertedEnd)) {
               log.warn(
                   "Type mismatch for property: {}, expected: {}, got start: {}, end: {}",
@@ -956,7 +1036,8 @@ public class SpecificationQueryBuilder {
                   targetType.getName(),
                   start.getClass().getName(),
                   end.getClass().getName());
-              return builder.conjunction();
+              context.getMetrics().recordTypeMismatch(ConditionType.BETWEEN, propertyName);
+              return null;
             }
             if (!(convertedStart instanceof Comparable) || !(convertedEnd instanceof Comparable)) {
               log.warn(
@@ -964,15 +1045,28 @@ public class SpecificationQueryBuilder {
                   propertyName,
                   start,
                   end);
-              return builder.conjunction();
+              context.getMetrics().recordTypeMismatch(ConditionType.BETWEEN, propertyName);
+              return null;
             }
-            @SuppressWarnings("unchecked")
             Comparable<Object> startValue = (Comparable<Object>) convertedStart;
-            @SuppressWarnings("unchecked")
             Comparable<Object> endValue = (Comparable<Object>) convertedEnd;
-            return builder.between(root.get(propertyName), startValue, endValue);
+            return builder.between(context.get(root, propertyName), startValue, endValue);
           });
-      return this;
+    }
+
+    /**
+     * BETWEEN의 한쪽 값만 템플릿 파라미터인 경우, 나머지 값을 리터럴 Expression으로 변환.
+     *
+     * @return Expression (타입 변환 실패 시 null)
+     * @since 1.3.0
+     */
+    private Expression<?> boundExpression(
+        CriteriaBuilder builder, QueryContext context, Class<?> targetType, Object value) {
+      if (value instanceof QueryTemplate.Parameter parameter) {
+        return context.parameter(builder, targetType, parameter);
+      }
+      Object converted = context.getTypeConverter().convert(value, targetType);
+      return targetType.isInstance(converted) ? builder.literal(converted) : null;
     }
 
     /**
@@ -984,18 +1078,44 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> in(String propertyName, Collection<?> values) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (values == null || values.isEmpty()) {
-              log.debug(
-                  "Skipping IN condition for property: {}, values are null or empty", propertyName);
-              return builder.conjunction();
-            }
-            CriteriaBuilder.In<Object> inClause = builder.in(root.get(propertyName));
-            values.forEach(inClause::value);
-            return inClause;
-          });
-      return this;
+      if (values == null || values.isEmpty()) {
+        return skip(ConditionType.IN, propertyName, "values are null or empty");
+      }
+      return add(inCondition(propertyName, values.toArray()));
+    }
+
+    /** IN 조건 생성. 조건 최적화에서 OR로 연결된 EQUAL 조건을 합칠 때도 사용. */
+    private TypedCondition<T> inCondition(String propertyName, Object[] values) {
+      List<Object> list = Arrays.asList(values);
+      return new TypedCondition<>(
+          ConditionType.IN,
+          propertyName,
+          values,
+          (root, query, builder, context) ->
+              InListPredicates.in(
+                  builder,
+                  context.get(root, propertyName),
+                  list,
+                  context.getInListOptions(),
+                  context.getTypeConverter()));
+    }
+
+    /**
+     * 필수 IN 조건 추가. {@link #in(String, Collection)}과 달리 값 목록이 null이거나 비어 있으면 조건을 무시하지 않고 결과가 없는
+     * 쿼리로 처리함 (권한 필터 등). 예: builder.inRequired("teamId", accessibleTeamIds)
+     *
+     * @param propertyName 필드 이름
+     * @param values 값 컬렉션
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> inRequired(String propertyName, Collection<?> values) {
+      if (values == null || values.isEmpty()) {
+        log.debug(
+            "Required IN values are null or empty for property: {}, no rows match", propertyName);
+        return none();
+      }
+      return add(inCondition(propertyName, values.toArray()));
     }
 
     /**
@@ -1007,19 +1127,22 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> notIn(String propertyName, Collection<?> values) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (values == null || values.isEmpty()) {
-              log.debug(
-                  "Skipping NOT_IN condition for property: {}, values are null or empty",
-                  propertyName);
-              return builder.conjunction();
-            }
-            CriteriaBuilder.In<Object> inClause = builder.in(root.get(propertyName));
-            values.forEach(inClause::value);
-            return builder.not(inClause);
-          });
-      return this;
+      if (values == null || values.isEmpty()) {
+        return skip(ConditionType.NOT_IN, propertyName, "values are null or empty");
+      }
+      Object[] array = values.toArray();
+      List<Object> list = Arrays.asList(array);
+      return add(
+          ConditionType.NOT_IN,
+          propertyName,
+          array,
+          (root, query, builder, context) ->
+              InListPredicates.notIn(
+                  builder,
+                  context.get(root, propertyName),
+                  list,
+                  context.getInListOptions(),
+                  context.getTypeConverter()));
     }
 
     /**
@@ -1030,12 +1153,14 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> isNull(String propertyName) {
-      specifications.add(
-          (root, query, builder) -> {
+      return add(
+          ConditionType.IS_NULL,
+          propertyName,
+          new Object[0],
+          (root, query, builder, context) -> {
             log.debug("Applying IS_NULL condition for property: {}", propertyName);
-            return builder.isNull(root.get(propertyName));
+            return builder.isNull(context.get(root, propertyName));
           });
-      return this;
     }
 
     /**
@@ -1046,12 +1171,14 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> isNotNull(String propertyName) {
-      specifications.add(
-          (root, query, builder) -> {
+      return add(
+          ConditionType.IS_NOT_NULL,
+          propertyName,
+          new Object[0],
+          (root, query, builder, context) -> {
             log.debug("Applying IS_NOT_NULL condition for property: {}", propertyName);
-            return builder.isNotNull(root.get(propertyName));
+            return builder.isNotNull(context.get(root, propertyName));
           });
-      return this;
     }
 
     /**
@@ -1063,8 +1190,10 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> equalEnum(String propertyName, Enum<?> enumValue) {
-      specifications.add(SpecificationQueryBuilder.equalEnum(propertyName, enumValue));
-      return this;
+      if (enumValue == null) {
+        return skip(ConditionType.EQUAL, propertyName, "value is null");
+      }
+      return add(SpecificationQueryBuilder.equalEnum(propertyName, enumValue));
     }
 
     /**
@@ -1080,13 +1209,16 @@ public class SpecificationQueryBuilder {
      */
     public Builder<T> dateRangeBetween(
         String propertyName, String startDate, String endDate, DateParser dateParser) {
-      specifications.add(
+      if (StringUtils.isBlank(startDate) && StringUtils.isBlank(endDate)) {
+        return skip(ConditionType.BETWEEN, propertyName, "start and end dates are blank");
+      }
+      return add(
           SpecificationQueryBuilder.dateRangeBetween(propertyName, startDate, endDate, dateParser));
-      return this;
     }
 
     /**
-     * 조인된 엔티티의 ID로 필터링 조건 추가. 예: builder.equalJoinId("members", "userId", "user123")
+     * 조인된 엔티티의 ID로 필터링 조건 추가. 단일 연관관계(ManyToOne 등)는 조인 없이 외래 키로 비교하고, 컬렉션 연관관계는 다른 조건과
+     * 공유하는 LEFT JOIN과 DISTINCT를 사용함. 예: builder.equalJoinId("members", "userId", "user123")
      *
      * @param joinProperty 조인 대상 필드
      * @param idProperty ID 필드 이름
@@ -1095,7 +1227,26 @@ public class SpecificationQueryBuilder {
      * @since 1.0.0
      */
     public Builder<T> equalJoinId(String joinProperty, String idProperty, Object value) {
-      specifications.add(SpecificationQueryBuilder.equalJoinId(joinProperty, idProperty, value));
+      if (value == null) {
+        log.debug("Skipping equalJoinId condition for join: {}, id: {}", joinProperty, idProperty);
+        return this;
+      }
+      conditions.add(
+          (root, query, builder, context) -> {
+            try {
+              if (!root.getModel().getAttribute(joinProperty).isCollection()) {
+                // 단일 연관관계는 외래 키 컬럼으로 비교되므로 조인하지 않음
+                return builder.equal(root.get(joinProperty).get(idProperty), value);
+              }
+              Join<?, ?> join = context.join(root, joinProperty, JoinType.LEFT);
+              query.distinct(true);
+              return builder.equal(join.get(idProperty), value);
+            } catch (IllegalArgumentException e) {
+              log.warn("Invalid join property: {} or id property: {}", joinProperty, idProperty, e);
+              context.getMetrics().recordInvalidProperty(joinProperty + "." + idProperty);
+              return null;
+            }
+          });
       return this;
     }
 
@@ -1111,92 +1262,226 @@ public class SpecificationQueryBuilder {
      */
     public Builder<T> joinWithConditions(
         String joinProperty, List<JoinCondition> conditions, JoinType joinType) {
-      specifications.add(
-          SpecificationQueryBuilder.joinWithConditions(joinProperty, conditions, joinType));
-      return this;
+      return joinWithConditions(joinProperty, conditions, joinType, null);
     }
 
     /**
-     * OR 조건 추가 (복수 조건). 예: builder.or(List.of(SpecificationQueryBuilder.equal("email",
-     * "test@example.com"), SpecificationQueryBuilder.equalEnum("status", Status. PENDING)))
+     * 복잡한 조인 조건 추가 (조인 전략 지정). 예: builder.joinWithConditions("members",
+     * List.of(JoinCondition.equal("role", "ADMIN")), JoinType.INNER, JoinStrategy.EXISTS)
      *
-     * @param conditions OR로 결합할 조건 리스트
+     * @param joinProperty 조인 대상 필드
+     * @param conditions 조인 조건 리스트
+     * @param joinType 조인 타입 (JOIN 전략에서만 사용)
+     * @param strategy 조인 전략 (null이면 {@link #joinStrategy(JoinStrategy)} 설정값 사용)
      * @return 빌더 인스턴스
-     * @since 1.0.0
+     * @since 1.3.0
      */
-    public Builder<T> or(List<Specification<T>> conditions) {
-      specifications.add(
-          (root, query, builder) -> {
-            if (conditions == null || conditions.isEmpty()) {
-              log.debug("Skipping OR condition, conditions are null or empty");
-              return builder.conjunction();
-            }
-            Predicate[] predicates =
-                conditions.stream()
-                    .map(spec -> spec.toPredicate(root, query, builder))
-                    .toArray(Predicate[]::new);
-            if (predicates.length == 0) {
-              log.debug("Skipping OR condition, no valid predicates");
-              return builder.conjunction();
-            }
-            return builder.or(predicates);
-          });
+    public Builder<T> joinWithConditions(
+        String joinProperty,
+        List<JoinCondition> conditions,
+        JoinType joinType,
+        JoinStrategy strategy) {
+      if (conditions == null || conditions.isEmpty()) {
+        log.debug("No conditions provided for join on property: {}, skipping join", joinProperty);
+        return this;
+      }
+      this.conditions.add(
+          (root, query, builder, context) ->
+              joinPredicate(
+                  root,
+                  query,
+                  builder,
+                  context,
+                  joinProperty,
+                  conditions,
+                  joinType,
+                  strategy != null ? strategy : context.getJoinStrategy()));
       return this;
     }
 
     /**
-     * OR 조건 추가 (중첩 빌더). 예: builder.or(or -> or.equal("email",
-     * "test@example.com").equalEnum("status", Status.PENDING))
+     * 전략을 지정하지 않은 joinWithConditions 조건의 기본 조인 전략 설정. 예: builder.joinStrategy(JoinStrategy.EXISTS)
      *
-     * @param orBuilder OR 조건을 정의하는 빌더
+     * @param strategy 조인 전략 (null이면 JOIN)
      * @return 빌더 인스턴스
-     * @since 1.0.0
+     * @since 1.3.0
      */
-    public Builder<T> or(Consumer<Builder<T>> orBuilder) {
-      Builder<T> subBuilder = Builder.create(entityClass, entityManager);
-      orBuilder.accept(subBuilder);
-      specifications.add(
-          (root, query, builder) -> {
-            Specification<T> subSpec = subBuilder.build();
-            Predicate predicate = subSpec.toPredicate(root, query, builder);
-            if (predicate.equals(builder.conjunction())) {
-              log.debug("Skipping OR condition, sub-builder has no valid conditions");
-              return builder.conjunction();
-            }
-            return builder.or(predicate);
-          });
+    public Builder<T> joinStrategy(JoinStrategy strategy) {
+      this.joinStrategy = strategy != null ? strategy : JoinStrategy.JOIN;
       return this;
     }
 
     /**
-     * AND 조건 추가 (중첩 빌더). 예: builder.and(and -> and.equal("email",
-     * "test@example.com").equalEnum("status", Status.PENDING))
+     * in, notIn, JoinCondition.in/notIn 조건의 IN 목록 생성 방식 설정. 예:
+     * builder.inListOptions(InListOptions.defaults().withPadding(true).withChunkSize(1000))
      *
-     * @param andBuilder AND 조건을 정의하는 빌더
+     * @param options IN 목록 설정 (null이면 기본값)
      * @return 빌더 인스턴스
-     * @since 1.0.0
+     * @since 1.3.0
      */
-    public Builder<T> and(Consumer<Builder<T>> andBuilder) {
-      Builder<T> subBuilder = Builder.create(entityClass, entityManager);
-      andBuilder.accept(subBuilder);
-      specifications.add(
-          (root, query, builder) -> {
-            Specification<T> subSpec = subBuilder.build();
-            Predicate predicate = subSpec.toPredicate(root, query, builder);
-            if (predicate.equals(builder.conjunction())) {
-              log.debug("Skipping AND condition, sub-builder has no valid conditions");
-              return builder.conjunction();
-            }
-            return predicate;
-          });
+    public Builder<T> inListOptions(InListOptions options) {
+      this.inListOptions = options != null ? options : InListOptions.defaults();
       return this;
     }
 
     /**
-     * 정렬 조건 추가. 예: builder.orderBy("createdAt", "DESC")
+     * 비교 조건, 템플릿 파라미터, 키셋 커서 값의 타입 변환기 설정. 예:
+     * builder.typeConverter(ConversionRegistry.builder().registerDefaults().register(String.class,
+     * YearMonth.class, YearMonth::parse).build())
      *
-     * @param field 정렬할 필드명
-     * @param direction 정렬 방향 ("ASC" 또는 "DESC", null이면 "ASC")
+     * @param typeConverter 타입 변환기 (null이면 {@link ConversionRegistry#defaults()})
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> typeConverter(TypeConverter typeConverter) {
+      this.typeConverter = typeConverter != null ? typeConverter : ConversionRegistry.defaults();
+      return this;
+    }
+
+    /**
+     * 메트릭 수집기 설정. toPredicate 소요 시간, ConditionType별 조건 수, 무시된 조건, 타입 불일치/잘못된 속성으로 인한 대체 처리가
+     * 기록됨. 예: builder.metrics(new MicrometerQueryMetrics(meterRegistry))
+     *
+     * @param metrics 메트릭 수집기 (null이면 수집 안 함)
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> metrics(QueryMetrics metrics) {
+      this.metrics = metrics != null ? metrics : QueryMetrics.noop();
+      return this;
+    }
+
+    /**
+     * 결과가 없는 조건 추가. 이후 다른 조건과 관계없이 쿼리 결과가 비게 되며, 생성된 Specification의 {@link
+     * CompiledSpecification#isUnsatisfiable()}이 true가 됨. 예: if (!hasPermission) builder.none()
+     *
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> none() {
+      return add(ConditionOptimizer.never());
+    }
+
+    /**
+     * Specification 생성 시 조건 트리 최적화 적용. 중첩 AND/OR 평탄화, 중복 조건 제거, 같은 속성의 범위 조건을 BETWEEN으로 병합, OR로
+     * 연결된 같은 속성의 EQUAL을 IN으로 병합, 모순 조건(예: 같은 속성에 서로 다른 EQUAL 값) 감지가 적용됨. 모순이 감지되면 결과가 없는
+     * 조건(1=0)이 생성됨. 값은 Metamodel의 속성 타입으로 변환한 뒤 Java 기준으로 비교하며, EntityManager 없이 생성한 빌더는 값을 비교하는
+     * 병합과 모순 감지를 하지 않음. 대소문자를 구분하지 않는 collation의 문자열 컬럼은 모순 감지 결과가 DB와 다를 수 있음. 예:
+     * builder.optimize()
+     *
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> optimize() {
+      this.optimize = true;
+      return this;
+    }
+
+    /**
+     * OR 조건 추가 (복수 조건). 예: builder.or(List.of(SpecificationQueryBuilder.equal("email",
+     * "test@example.com"), SpecificationQueryBuilder.equalEnum("status", Status. PENDING))) 조건이 없는
+     * Specification(null Predicate)은 제외되며, 모두 없으면 OR 조건을 추가하지 않음.
+     *
+     * @param conditions OR로 결합할 조건 리스트
+     * @return 빌더 인스턴스
+     * @since 1.0.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Builder<T> or(List<Specification<T>> conditions) {
+      // 호출 시점의 조건 목록을 고정 (이후 리스트 변경은 반영되지 않음)
+      if (conditions == null || conditions.isEmpty()) {
+        log.debug("Skipping OR condition, conditions are null or empty");
+        return this;
+      }
+      Specification<T>[] specifications = conditions.toArray(new Specification[0]);
+      return add(
+          (root, query, builder, context) -> {
+            // 조건이 없는 Specification(null Predicate)은 제외, 모두 없으면 OR 조건 자체를 생략
+            Predicate[] predicates = new Predicate[specifications.length];
+            int count = 0;
+            for (Specification<T> specification : specifications) {
+              Predicate predicate = specification.toPredicate(root, query, builder);
+              if (predicate != null) {
+                predicates[count++] = predicate;
+              }
+            }
+            if (count <= 1) {
+              return count == 1 ? predicates[0] : null;
+            }
+            return builder.or(
+                count == predicates.length ? predicates : Arrays.copyOf(predicates, count));
+          });
+    }
+
+    /**
+     * OR 조건 추가 (중첩 빌더). 예: builder.or(or -> or.equal("email",
+     * "test@example.com").equalEnum("status", Status.PENDING)) 기존 버전과의 호환을 위해 중첩 빌더의 조건들은 AND로 결합된 하나의
+     * 조건으로 추가됨. 중첩 빌더의 조건끼리 OR로 결합하려면 {@link #anyOf(Consumer)} 사용. 조건은 이 호출 시점에 고정되며, 타입 변환기,
+     * 조인 전략 등 설정은 바깥 빌더의 설정을 따름.
+     *
+     * @param orBuilder OR 조건을 정의하는 빌더
+     * @return 빌더 인스턴스
+     * @since 1.0.0
+     */
+    public Builder<T> or(Consumer<Builder<T>> orBuilder) {
+      Builder<T> subBuilder = Builder.create(entityClass, entityManager);
+      orBuilder.accept(subBuilder);
+      skipped.addAll(subBuilder.skipped);
+      Condition<T>[] nested = subBuilder.snapshot();
+      if (nested.length == 0) {
+        log.debug("Skipping OR condition, sub-builder has no valid conditions");
+        return this;
+      }
+      return add(new GroupCondition<>(false, nested));
+    }
+
+    /**
+     * 중첩 빌더의 조건들을 OR로 결합하여 추가. 예: builder.anyOf(any -> any.equal("role",
+     * "ADMIN").equal("role", "OWNER")) -> (role = 'ADMIN' OR role = 'OWNER'). {@link #optimize()} 사용 시 같은 속성의
+     * EQUAL 조건은 IN 하나로 합쳐짐. 조건은 이 호출 시점에 고정되며, 타입 변환기, 조인 전략 등 설정은 바깥 빌더의 설정을 따름.
+     *
+     * @param anyBuilder OR로 결합할 조건을 정의하는 빌더
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> anyOf(Consumer<Builder<T>> anyBuilder) {
+      Builder<T> subBuilder = Builder.create(entityClass, entityManager);
+      anyBuilder.accept(subBuilder);
+      skipped.addAll(subBuilder.skipped);
+      Condition<T>[] nested = subBuilder.snapshot();
+      if (nested.length == 0) {
+        log.debug("Skipping OR condition, sub-builder has no valid conditions");
+        return this;
+      }
+      return add(new GroupCondition<>(true, nested));
+    }
+
+    /**
+     * AND 조건 추가 (중첩 빌더). 예: builder.and(and -> and.equal("email",
+     * "test@example.com").equalEnum("status", Status.PENDING)) 중첩 빌더의 조건은 이 호출 시점에 고정되며, 타입 변환기, 조인 전략 등
+     * 설정은 바깥 빌더의 설정을 따름.
+     *
+     * @param andBuilder AND 조건을 정의하는 빌더
+     * @return 빌더 인스턴스
+     * @since 1.0.0
+     */
+    public Builder<T> and(Consumer<Builder<T>> andBuilder) {
+      Builder<T> subBuilder = Builder.create(entityClass, entityManager);
+      andBuilder.accept(subBuilder);
+      skipped.addAll(subBuilder.skipped);
+      Condition<T>[] nested = subBuilder.snapshot();
+      if (nested.length == 0) {
+        log.debug("Skipping AND condition, sub-builder has no valid conditions");
+        return this;
+      }
+      return add(new GroupCondition<>(false, nested));
+    }
+
+    /**
+     * 정렬 조건 추가. 예: builder.orderBy("createdAt", "DESC")
+     *
+     * @param field 정렬할 필드명
+     * @param direction 정렬 방향 ("ASC" 또는 "DESC", null이면 "ASC")
      * @return 빌더 인스턴스
      * @since 1.2.0
      */
@@ -1295,6 +1580,221 @@ public class SpecificationQueryBuilder {
       return this;
     }
 
+    /**
+     * 키셋(seek) 페이징으로 다음 페이지 조회. OFFSET 대신 마지막 행의 정렬 값 이후를 조건으로 조회하므로 깊은 페이지에서도 성능이 일정함. 정렬은
+     * orderBy로 지정한 컬럼 뒤에 고유 컬럼(tie-breaker, 기본: ID)이 자동으로 추가됨. 예: builder.orderBy("createdAt",
+     * Direction.DESC).seekAfter(request.getCursor())
+     *
+     * @param cursor 이전 페이지의 {@link #cursorOf(Object)} 값 (null 또는 공백이면 첫 페이지)
+     * @return 빌더 인스턴스
+     * @throws IllegalArgumentException 잘못된 커서 문자열인 경우
+     * @since 1.3.0
+     */
+    public Builder<T> seekAfter(String cursor) {
+      return seek(cursor, false);
+    }
+
+    /**
+     * 키셋(seek) 페이징으로 이전 페이지 조회. 정렬이 역순으로 적용되므로 결과 목록은 호출자가 뒤집어서 사용. 예:
+     * builder.orderBy("createdAt", Direction.DESC).seekBefore(request.getCursor())
+     *
+     * @param cursor 현재 페이지 첫 행의 {@link #cursorOf(Object)} 값 (null 또는 공백이면 첫 페이지)
+     * @return 빌더 인스턴스
+     * @throws IllegalArgumentException 잘못된 커서 문자열인 경우
+     * @since 1.3.0
+     */
+    public Builder<T> seekBefore(String cursor) {
+      return seek(cursor, true);
+    }
+
+    private Builder<T> seek(String cursor, boolean backward) {
+      this.keysetEnabled = true;
+      this.seekCursor = StringUtils.isNotBlank(cursor) ? KeysetCursor.decode(cursor) : null;
+      this.seekBackward = backward && seekCursor != null;
+      if (offsetValue != null && offsetValue > 0) {
+        log.debug("Keyset pagination enabled, ignoring OFFSET: {}", offsetValue);
+      }
+      log.debug("Enabled keyset pagination, backward: {}, cursor: {}", seekBackward, cursor);
+      return this;
+    }
+
+    /**
+     * 키셋 페이징의 고유 정렬 컬럼(tie-breaker) 지정. 기본값은 엔티티 ID 속성 (Metamodel 미사용 시 "id").
+     *
+     * @param field 고유 값을 가지는 필드명
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> tieBreaker(String field) {
+      if (StringUtils.isNotBlank(field)) {
+        this.tieBreaker = field.trim();
+      }
+      return this;
+    }
+
+    /**
+     * 조회된 엔티티로부터 다음(또는 이전) 페이지 커서 생성. 보통 다음 페이지는 마지막 행, 이전 페이지는 첫 행을 사용.
+     *
+     * @param entity 기준 행 엔티티
+     * @return 불투명 커서 문자열
+     * @throws IllegalArgumentException 정렬 컬럼 값이 null이거나 지원하지 않는 타입인 경우
+     * @since 1.3.0
+     */
+    public String cursorOf(T entity) {
+      if (entity == null) {
+        throw new IllegalArgumentException("Entity cannot be null");
+      }
+      Map<String, Object> values = new LinkedHashMap<>();
+      for (OrderInfo order : keysetOrders()) {
+        values.put(order.getField(), KeysetCursor.readProperty(entity, order.getField()));
+      }
+      return KeysetCursor.of(values).encode();
+    }
+
+    /**
+     * 키셋 페이징에 사용하는 정렬 목록 (orderBy 컬럼 + tie-breaker).
+     *
+     * @since 1.3.0
+     */
+    private List<OrderInfo> keysetOrders() {
+      String unique = tieBreaker != null ? tieBreaker : defaultTieBreaker();
+      List<OrderInfo> orders = new ArrayList<>(orderByList);
+      if (orders.stream().noneMatch(order -> order.getField().equals(unique))) {
+        orders.add(new OrderInfo(unique, Direction.ASC));
+      }
+      return orders;
+    }
+
+    private String defaultTieBreaker() {
+      if (entityManager != null && entityClass != null) {
+        AttributeDescriptor id = AttributeCache.resolveId(entityManager.getMetamodel(), entityClass);
+        if (id.isValid()) {
+          return id.getPath();
+        }
+        log.warn(
+            "Entity: {} has no single id attribute, falling back to 'id' as tie-breaker",
+            entityClass.getName());
+      }
+      return "id";
+    }
+
+    /**
+     * 프로젝션 조회 시 선택할 속성 경로 추가. 엔티티 전체 대신 지정한 컬럼만 조회하여 record 또는 인터페이스로 변환하며, 실행은
+     * {@link QueryExecutor#list(Class)} 등을 사용. "team.name"처럼 연관관계 경로는 이름 "teamName"으로 대응됨. 예:
+     * builder.select("id", "name", "team.name").executor().list(UserRow.class)
+     *
+     * @param paths 속성 경로
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> select(String... paths) {
+      if (paths == null) {
+        return this;
+      }
+      for (String path : paths) {
+        if (StringUtils.isBlank(path)) {
+          throw new IllegalArgumentException("Selection path cannot be blank");
+        }
+        selections.add(path.trim());
+      }
+      log.debug("Added selections: {}", selections);
+      return this;
+    }
+
+    /**
+     * 엔티티 조회 시 함께 로딩할 연관관계 경로 추가. fetch join 대신 동적 EntityGraph를 load graph 힌트({@code
+     * jakarta.persistence.loadgraph})로 적용하므로 페이징과 함께 사용할 수 있으며, count 쿼리에는 적용되지 않음. 실행은 {@link QueryExecutor}를 사용. 예: builder.fetch("team", "members.role")
+     *
+     * @param paths 연관관계 경로 ("members.role"처럼 중첩 경로 가능)
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> fetch(String... paths) {
+      if (paths == null) {
+        return this;
+      }
+      for (String path : paths) {
+        if (StringUtils.isBlank(path)) {
+          throw new IllegalArgumentException("Fetch path cannot be blank");
+        }
+        fetchPaths.add(path.trim());
+      }
+      log.debug("Added fetch paths: {}", fetchPaths);
+      return this;
+    }
+
+    /**
+     * 쿼리 실행 힌트 설정. 지정하지 않은 항목은 전역 기본값({@link QueryHints#defaults()})을 사용하며, {@link QueryExecutor}와
+     * {@link QueryTemplate}이 적용함. 예: builder.hints(QueryHints.empty().withReadOnly(true))
+     *
+     * @param hints 쿼리 힌트 (null이면 빈 설정)
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> hints(QueryHints hints) {
+      this.queryHints = hints != null ? hints : QueryHints.empty();
+      return this;
+    }
+
+    /**
+     * 쿼리 타임아웃 설정. JDBC 타임아웃이 초 단위이므로 초 단위로 올려 적용됨. 예: builder.timeout(Duration.ofSeconds(3))
+     *
+     * @param timeout 타임아웃
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> timeout(Duration timeout) {
+      this.queryHints = queryHints.withTimeout(timeout);
+      return this;
+    }
+
+    /**
+     * JDBC fetch size 설정. 예: builder.fetchSize(500)
+     *
+     * @param fetchSize 한 번에 가져올 행 수
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> fetchSize(int fetchSize) {
+      this.queryHints = queryHints.withFetchSize(fetchSize);
+      return this;
+    }
+
+    /**
+     * 읽기 전용 조회. 조회한 엔티티의 변경 감지용 스냅샷을 만들지 않음. 예: builder.readOnly()
+     *
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> readOnly() {
+      this.queryHints = queryHints.withReadOnly(true);
+      return this;
+    }
+
+    /**
+     * flush 모드 설정. COMMIT이면 쿼리 실행 전 자동 flush를 하지 않음. 예: builder.flushMode(FlushModeType.COMMIT)
+     *
+     * @param flushMode flush 모드
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> flushMode(FlushModeType flushMode) {
+      this.queryHints = queryHints.withFlushMode(flushMode);
+      return this;
+    }
+
+    /**
+     * 쿼리 결과 캐시 사용. 예: builder.cacheable("userSearch")
+     *
+     * @param region 캐시 영역 (null이면 기본 영역)
+     * @return 빌더 인스턴스
+     * @since 1.3.0
+     */
+    public Builder<T> cacheable(String region) {
+      this.queryHints = queryHints.withCacheable(true, StringUtils.trimToNull(region));
+      return this;
+    }
+
     /**
      * 쿼리 로깅 활성화. 예: builder.logQuery()
      *
@@ -1308,13 +1808,17 @@ public class SpecificationQueryBuilder {
     }
 
     /**
-     * Spring Data JPA Pageable 생성. 페이징 정보를 Pageable로 변환.
+     * Spring Data JPA Pageable 생성. 페이징 정보를 Pageable로 변환. OFFSET이 limit의 배수가 아니면 페이지 번호로 내림하지 않고 OFFSET을
+     * 그대로 유지하는 Pageable을 반환함.
      *
      * @return Pageable 객체 (페이징 정보가 없으면 null)
      * @since 1.2.0
      */
     public Pageable toPageable() {
-      if (limitValue != null && offsetValue != null) {
+      if (limitValue != null && offsetValue != null && !keysetEnabled) {
+        if (offsetValue % limitValue != 0) {
+          return new OffsetPageRequest(offsetValue, limitValue, Sort.unsorted());
+        }
         int pageNumber = offsetValue / limitValue;
         return PageRequest.of(pageNumber, limitValue);
       } else if (limitValue != null) {
@@ -1344,55 +1848,594 @@ public class SpecificationQueryBuilder {
     }
 
     /**
-     * Specification 생성.
+     * 비교 조건에 사용할 속성 타입 조회. Metamodel은 빌더의 EntityManager가 아니라 {@link #freeze()} 시점에 고정되어 컨텍스트로
+     * 전달된 것을 사용하므로, 보관된 Specification이 생성 시의 EntityManager에 의존하지 않음. Metamodel 사용 시 {@link
+     * AttributeCache}를 통해 (엔티티, 속성) 단위로 1회만 해석됨.
+     *
+     * @return 속성 타입 (잘못된 속성인 경우 null)
+     * @since 1.3.0
+     */
+    private Class<?> resolveTargetType(Root<T> root, String propertyName, QueryContext context) {
+      Metamodel metamodel = context.getMetamodel();
+      if (metamodel != null && entityClass != null) {
+        AttributeDescriptor attribute = AttributeCache.resolve(metamodel, entityClass, propertyName);
+        if (!attribute.isValid()) {
+          log.warn("Invalid property: {} for entity: {}", propertyName, entityClass.getName());
+          context.getMetrics().recordInvalidProperty(propertyName);
+          return null;
+        }
+        return ClassUtils.primitiveToWrapper(attribute.getJavaType());
+      }
+      return ClassUtils.primitiveToWrapper(context.get(root, propertyName).getJavaType());
+    }
+
+    /**
+     * Specification 생성. Spring Data가 같은 Specification으로 count 쿼리를 실행하는 경우(결과 타입 Long) 정렬과 키셋 조건은
+     * 생략됨. null 또는 공백 값으로 무시된 조건은 추가 시점에 제외되므로 SQL에 1=1이 남지 않으며, 적용할 조건이 없으면 null
+     * Predicate를 반환함 (WHERE 절 생략). 호출 시점의 조건과 설정이 고정된 {@link #freeze()} 결과를 반환하므로, 이후 빌더를
+     * 변경해도 이미 생성된 Specification에는 반영되지 않음.
      *
      * @return 최종 Specification 객체
+     * @throws IllegalArgumentException 키셋 커서의 컬럼이 정렬 컬럼과 다른 경우
      * @since 1.0.0
      */
     public Specification<T> build() {
-      return (root, query, builder) -> {
-        // 쿼리 로깅 활성화
-        if (enableQueryLogging) {
-          log.info(
-              "Building query with {} conditions, {} order by clauses, limit: {}, offset: {}",
-              specifications.size(),
-              orderByList.size(),
-              limitValue,
-              offsetValue);
-        }
+      return freeze();
+    }
+
+    /**
+     * 현재 조건, 정렬, 키셋 커서와 설정을 배열로 고정한 불변 Specification 생성. 스레드 안전하므로 상수나 {@link
+     * SpecificationRegistry}에 보관하여 여러 요청에서 공유 가능. 예: static final Specification&lt;User&gt; ACTIVE =
+     * Builder.&lt;User&gt;create().equal("status", "ACTIVE").freeze()
+     *
+     * @return 불변 Specification
+     * @throws IllegalArgumentException 키셋 커서의 컬럼이 정렬 컬럼과 다른 경우
+     * @since 1.3.0
+     */
+    public CompiledSpecification<T> freeze() {
+      return new CompiledSpecification<>(this);
+    }
+
+    /**
+     * 빌더의 EntityManager로 쿼리를 실행하는 실행기 생성. limit/offset/page 설정이 TypedQuery에 그대로 적용됨. 예:
+     * builder.page(0, 20).executor().page()
+     *
+     * @return 쿼리 실행기
+     * @throws IllegalStateException 엔티티 클래스나 EntityManager 없이 생성된 빌더인 경우
+     * @since 1.3.0
+     */
+    public QueryExecutor<T> executor() {
+      if (entityManager == null) {
+        throw new IllegalStateException(
+            "Query execution requires an EntityManager, use Builder.create(Class, EntityManager)");
+      }
+      return freeze().executor(entityManager);
+    }
+
+    /**
+     * 파라미터 슬롯이 선언된 쿼리 템플릿 생성. CriteriaQuery는 퍼시스턴스 유닛별로 한 번만 만들어지고, 실행마다 값만 바인딩됨. 예:
+     * builder.equal("status", QueryTemplate.param("status")).template()
+     *
+     * @return 쿼리 템플릿
+     * @throws IllegalStateException 엔티티 클래스 없이 생성된 빌더인 경우
+     * @since 1.3.0
+     */
+    public QueryTemplate<T> template() {
+      if (entityClass == null) {
+        throw new IllegalStateException(
+            "Query template requires an entity class, use Builder.create(Class, EntityManager)");
+      }
+      return new QueryTemplate<>(freeze(), entityClass, typeConverter);
+    }
+
+    /** 값이 없는 조건은 추가하지 않고, 쿼리 생성 시 메트릭에 무시된 조건으로 기록되도록 남겨 둠. */
+    private Builder<T> skip(ConditionType type, String propertyName, String reason) {
+      log.debug("Skipping {} condition for property: {}, {}", type, propertyName, reason);
+      skipped.add(new SkippedCondition(type, propertyName));
+      return this;
+    }
+
+    /** 조건 최적화에서 병합된 조건 생성. */
+    private final class ConditionFactory implements ConditionOptimizer.Factory<T> {
+      private final Metamodel metamodel;
+
+      private ConditionFactory(Metamodel metamodel) {
+        this.metamodel = metamodel;
+      }
+
+      @Override
+      public Object convert(String property, Object value) {
+        return convertToAttributeType(metamodel, property, value);
+      }
+
+      @Override
+      public TypedCondition<T> comparison(ConditionType type, String property, Object value) {
+        return comparisonCondition(type, property, value);
+      }
+
+      @Override
+      public TypedCondition<T> between(String property, Object start, Object end) {
+        return betweenCondition(property, start, end);
+      }
+
+      @Override
+      public TypedCondition<T> in(String property, Object[] values) {
+        return inCondition(property, values);
+      }
+    }
+
+    /**
+     * 조건 값을 속성 타입으로 변환. 쿼리 생성 전에 값끼리 비교할 때 사용하며, 속성 타입을 알 수 없으면 비교하지 않도록 null 반환.
+     *
+     * @return 변환된 값 (Metamodel이 없거나, 잘못된 속성이거나, 변환할 수 없는 값이면 null)
+     */
+    private Object convertToAttributeType(Metamodel metamodel, String propertyName, Object value) {
+      if (metamodel == null || entityClass == null || value instanceof QueryTemplate.Parameter) {
+        return null;
+      }
+      AttributeDescriptor attribute = AttributeCache.resolve(metamodel, entityClass, propertyName);
+      if (!attribute.isValid()) {
+        return null;
+      }
+      Class<?> targetType = ClassUtils.primitiveToWrapper(attribute.getJavaType());
+      Object converted = typeConverter.convert(value, targetType);
+      return targetType.isInstance(converted) ? converted : null;
+    }
+
+    /** 현재까지 추가된 조건 배열 복사본. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Condition<T>[] snapshot() {
+      return conditions.toArray(new Condition[0]);
+    }
 
-        // WHERE 조건 처리
-        Predicate[] predicates =
-            specifications.stream()
-                .map(spec -> spec.toPredicate(root, query, builder))
-                .toArray(Predicate[]::new);
-        Predicate wherePredicate =
-            predicates.length > 0 ? builder.and(predicates) : builder.conjunction();
-
-        // ORDER BY 조건 처리
-        if (!orderByList.isEmpty()) {
-          List<Order> orders =
-              orderByList.stream()
-                  .map(
-                      orderInfo -> {
-                        Path<?> path = root.get(orderInfo.getField());
-                        return orderInfo.isAscending() ? builder.asc(path) : builder.desc(path);
-                      })
-                  .toList();
-          query.orderBy(orders);
+    private Builder<T> add(Specification<T> specification) {
+      conditions.add(
+          (root, query, builder, context) -> specification.toPredicate(root, query, builder));
+      return this;
+    }
+
+    private Builder<T> add(
+        ConditionType type, String propertyName, Object[] values, Condition<T> condition) {
+      return add(new TypedCondition<>(type, propertyName, values, condition));
+    }
+
+    private Builder<T> add(Condition<T> condition) {
+      conditions.add(condition);
+      return this;
+    }
+  }
+
+  /**
+   * {@link Builder#freeze()}로 생성되는 불변 Specification. 조건과 정렬은 배열로, 설정은 생성 시점 값으로 고정되며 toPredicate마다
+   * 새 {@link QueryContext}를 사용하므로 여러 스레드에서 동시에 사용해도 안전함.
+   *
+   * <p>{@link Specification}은 Serializable이지만 이 클래스는 조건 람다, Metamodel, 메트릭, 타입 변환기를 보관하므로 직렬화를
+   * 지원하지 않음. 세션이나 캐시에 저장하지 말고 {@link SpecificationRegistry} 등 같은 JVM 안에서 공유.
+   *
+   * @param <T> 엔티티 타입
+   * @since 1.3.0
+   */
+  public static final class CompiledSpecification<T> implements Specification<T> {
+    private final Class<T> entityClass;
+    private final Condition<T>[] conditions;
+    private final SkippedCondition[] skipped;
+    // 키셋 페이징 사용 시 tie-breaker가 포함된 정렬
+    private final OrderInfo[] orders;
+    private final KeysetCursor seekCursor;
+    private final boolean seekBackward;
+    private final Integer limitValue;
+    private final Integer offsetValue;
+    private final boolean enableQueryLogging;
+    private final JoinStrategy joinStrategy;
+    private final InListOptions inListOptions;
+    private final QueryMetrics metrics;
+    private final TypeConverter typeConverter;
+    private final boolean unsatisfiable;
+    // 빌더에 지정한 tie-breaker (미지정 시 null)
+    private final String tieBreaker;
+    private final List<String> selections;
+    private final List<String> fetchPaths;
+    private final QueryHints queryHints;
+    // 속성 타입 해석용 (EntityManager 없이 생성된 경우 null)
+    private final Metamodel metamodel;
+
+    private CompiledSpecification(Builder<T> source) {
+      this.entityClass = source.entityClass;
+      this.metamodel =
+          source.entityManager != null && source.entityClass != null
+              ? source.entityManager.getMetamodel()
+              : null;
+      this.conditions =
+          source.optimize
+              ? ConditionOptimizer.optimize(
+                  source.snapshot(), source.new ConditionFactory(metamodel))
+              : source.snapshot();
+      this.skipped = source.skipped.toArray(new SkippedCondition[0]);
+      this.orders =
+          (source.keysetEnabled ? source.keysetOrders() : source.orderByList)
+              .toArray(new OrderInfo[0]);
+      this.seekCursor = source.keysetEnabled ? source.seekCursor : null;
+      if (seekCursor != null) {
+        // 쿼리 생성 시점이 아닌 build()/freeze() 호출 시점에 잘못된 커서를 알림
+        List<String> cursorFields = new ArrayList<>(seekCursor.getValues().keySet());
+        List<String> orderFields = Arrays.stream(orders).map(OrderInfo::getField).toList();
+        if (!cursorFields.equals(orderFields)) {
+          throw new IllegalArgumentException(
+              "Cursor columns " + cursorFields + " do not match ORDER BY columns " + orderFields);
         }
+      }
+      this.seekBackward = source.seekBackward;
+      this.limitValue = source.limitValue;
+      // 키셋 페이징은 커서 이후부터 조회하므로 OFFSET을 함께 적용하면 행을 건너뜀
+      this.offsetValue = source.keysetEnabled ? null : source.offsetValue;
+      this.enableQueryLogging = source.enableQueryLogging;
+      this.joinStrategy = source.joinStrategy;
+      this.inListOptions = source.inListOptions;
+      this.metrics = source.metrics;
+      this.typeConverter = source.typeConverter;
+      this.unsatisfiable = ConditionOptimizer.isUnsatisfiable(conditions);
+      this.tieBreaker = source.tieBreaker;
+      this.selections = List.copyOf(source.selections);
+      this.fetchPaths = List.copyOf(source.fetchPaths);
+      this.queryHints = source.queryHints;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+      return toPredicate(root, query, builder, QueryContext.of(query));
+    }
+
+    /** 호출자가 생성한 컨텍스트로 조건 생성 (메트릭 기록 포함). */
+    Predicate toPredicate(
+        Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder, QueryContext context) {
+      if (metrics == QueryMetrics.noop()) {
+        return apply(root, query, builder, context);
+      }
+      long start = System.nanoTime();
+      try {
+        return apply(root, query, builder, context);
+      } finally {
+        metrics.recordBuild(entityClass, context.isCountQuery(), System.nanoTime() - start);
+      }
+    }
+
+    /**
+     * 빌더 생성 시 지정한 엔티티 클래스.
+     *
+     * @return 엔티티 클래스 ({@link Builder#create()}로 생성한 경우 null)
+     * @since 1.3.0
+     */
+    public Class<T> getEntityClass() {
+      return entityClass;
+    }
+
+    /**
+     * 조건을 만족하는 행이 없음이 확정되었는지 확인. {@link Builder#none()}, 빈 {@link Builder#inRequired(String,
+     * Collection)}, 시작 값이 종료 값보다 큰 BETWEEN, {@link Builder#optimize()}가 감지한 모순 조건이 AND로 결합된 경우 true.
+     * 실행기는 이 값이 true이면 쿼리를 실행하지 않고 빈 결과를 반환할 수 있음.
+     *
+     * @return 결과가 항상 비어 있으면 true
+     * @since 1.3.0
+     */
+    public boolean isUnsatisfiable() {
+      return unsatisfiable;
+    }
+
+    /**
+     * 지정한 EntityManager로 쿼리를 실행하는 실행기 생성. 레지스트리나 상수로 공유하는 Specification을 요청별 EntityManager로 실행할 때
+     * 사용.
+     *
+     * @param entityManager EntityManager
+     * @return 쿼리 실행기
+     * @throws IllegalStateException 엔티티 클래스 없이 생성된 Specification인 경우
+     * @since 1.3.0
+     */
+    public QueryExecutor<T> executor(EntityManager entityManager) {
+      return new QueryExecutor<>(this, entityManager);
+    }
+
+    Integer getLimit() {
+      return limitValue;
+    }
+
+    Integer getOffset() {
+      return offsetValue;
+    }
+
+    /** 프로젝션 조회 시 선택할 속성 경로 (변경 불가능). */
+    List<String> getSelections() {
+      return selections;
+    }
+
+    /** 엔티티 조회 시 함께 로딩할 연관관계 경로 (변경 불가능). */
+    List<String> getFetchPaths() {
+      return fetchPaths;
+    }
+
+    /** 빌더에 지정한 쿼리 힌트 (전역 기본값 미포함). */
+    QueryHints getQueryHints() {
+      return queryHints;
+    }
+
+    /** 빌더에 지정한 IN 목록 설정. */
+    InListOptions getInListOptions() {
+      return inListOptions;
+    }
+
+    /** 빌더에 지정한 tie-breaker. 지정하지 않았으면 null. */
+    String getTieBreaker() {
+      return tieBreaker;
+    }
+
+    /** 빌더에 지정한 정렬 (키셋 페이징의 tie-breaker 포함). */
+    Sort getSort() {
+      List<Sort.Order> sortOrders = new ArrayList<>(orders.length);
+      for (OrderInfo order : orders) {
+        String field = order.getField();
+        sortOrders.add(order.isAscending() ? Sort.Order.asc(field) : Sort.Order.desc(field));
+      }
+      return Sort.by(sortOrders);
+    }
+
+    /**
+     * 고정된 최상위 조건 수 (중첩 빌더는 하나로 셈).
+     *
+     * @return 조건 수
+     * @since 1.3.0
+     */
+    public int getConditionCount() {
+      return conditions.length;
+    }
+
+    /**
+     * WHERE 조건과 ORDER BY를 쿼리에 적용.
+     *
+     * @return WHERE 조건 Predicate (적용할 조건이 없으면 null)
+     * @since 1.3.0
+     */
+    Predicate apply(
+        Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder, QueryContext context) {
+      // 쿼리 로깅 활성화
+      if (enableQueryLogging) {
+        log.info(
+            "Building {} query with {} conditions, {} order by clauses, limit: {}, offset: {}",
+            context.isCountQuery() ? "count" : "select",
+            conditions.length,
+            orders.length,
+            limitValue,
+            offsetValue);
+      }
 
-        // LIMIT/OFFSET 처리 (JPA Criteria API에서는 직접 지원하지 않으므로 로깅만)
-        if (limitValue != null || offsetValue != null) {
-          log.info(
-              "LIMIT/OFFSET conditions set - limit: {}, offset: {}. "
-                  + "These should be handled by Spring Data JPA Pageable or repository methods.",
-              limitValue,
-              offsetValue);
+      // WHERE 조건 처리
+      context.setInListOptions(inListOptions);
+      context.setMetrics(metrics);
+      context.setTypeConverter(typeConverter);
+      context.setJoinStrategy(joinStrategy);
+      context.setMetamodel(metamodel);
+      if (context.isMetricsEnabled()) {
+        for (SkippedCondition condition : skipped) {
+          metrics.recordSkipped(condition.type(), condition.property());
         }
+      }
+      if (unsatisfiable) {
+        // 결과가 없으므로 나머지 조건과 정렬은 생성하지 않음
+        return builder.disjunction();
+      }
+      Predicate wherePredicate = combine(conditions, false, root, query, builder, context);
 
+      // count 쿼리: 정렬, tie-breaker, 키셋 조건은 건수에 영향이 없거나 전체 건수를 왜곡하므로 생략
+      if (context.isCountQuery()) {
         return wherePredicate;
+      }
+
+      // 키셋 페이징: 커서 이후 조건 결합
+      if (seekCursor != null) {
+        Predicate seek = seekPredicate(root, builder, context);
+        wherePredicate = wherePredicate != null ? builder.and(wherePredicate, seek) : seek;
+      }
+
+      // ORDER BY 조건 처리
+      OrderInfo[] effective = withTieBreaker(context.getTieBreaker());
+      if (effective.length > 0) {
+        Order[] orderBy = new Order[effective.length];
+        for (int i = 0; i < effective.length; i++) {
+          Path<?> path = context.get(root, effective[i].getField());
+          // 이전 페이지 조회 시 역순으로 정렬
+          orderBy[i] =
+              effective[i].isAscending() != seekBackward ? builder.asc(path) : builder.desc(path);
+        }
+        query.orderBy(orderBy);
+      }
+
+      // LIMIT/OFFSET은 Predicate로 표현할 수 없으므로 QueryExecutor 또는 Pageable에서 적용
+      if (limitValue != null || offsetValue != null) {
+        log.debug(
+            "LIMIT/OFFSET conditions set - limit: {}, offset: {}. "
+                + "These are applied by Builder.executor() or Spring Data JPA Pageable.",
+            limitValue,
+            offsetValue);
+      }
+
+      return wherePredicate;
+    }
+
+    /** 정렬에 고유 컬럼이 없으면 마지막에 오름차순으로 추가한 정렬 (슬라이스 조회 시 페이지 간 순서 고정). */
+    private OrderInfo[] withTieBreaker(String unique) {
+      if (unique == null) {
+        return orders;
+      }
+      for (OrderInfo order : orders) {
+        if (order.getField().equals(unique)) {
+          return orders;
+        }
+      }
+      OrderInfo[] result = Arrays.copyOf(orders, orders.length + 1);
+      result[orders.length] = new OrderInfo(unique, Direction.ASC);
+      return result;
+    }
+
+    /**
+     * 커서 값 이후(또는 이전) 행을 선택하는 조건. (a, b, id) &gt; (x, y, z)를 정렬 방향별로 펼친 형태이며, 인덱스 범위 검색을 위해 첫 컬럼
+     * 조건을 함께 추가함: a &gt;= x AND (a &gt; x OR (a = x AND b &gt; y) OR (a = x AND b = y AND id &gt; z))
+     *
+     * @since 1.3.0
+     */
+    private Predicate seekPredicate(Root<T> root, CriteriaBuilder builder, QueryContext context) {
+      // 커서 컬럼과 정렬 컬럼이 같은지는 생성 시 확인됨
+      List<Predicate> alternatives = new ArrayList<>();
+      List<Predicate> equalities = new ArrayList<>();
+      Predicate leading = null;
+      for (OrderInfo order : orders) {
+        Path<?> path = context.get(root, order.getField());
+        Object value = keysetValue(path, order.getField(), context);
+        boolean forward = order.isAscending() != seekBackward;
+        Predicate step =
+            compare(
+                builder, forward ? ConditionType.GREATER_THAN : ConditionType.LESS_THAN, path, value);
+        if (leading == null) {
+          leading =
+              compare(
+                  builder,
+                  forward ? ConditionType.GREATER_EQUAL : ConditionType.LESS_EQUAL,
+                  path,
+                  value);
+        }
+        List<Predicate> branch = new ArrayList<>(equalities);
+        branch.add(step);
+        alternatives.add(
+            branch.size() == 1 ? step : builder.and(branch.toArray(new Predicate[0])));
+        equalities.add(builder.equal(path, value));
+      }
+      return builder.and(leading, builder.or(alternatives.toArray(new Predicate[0])));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object keysetValue(Path<?> path, String field, QueryContext context) {
+      Object value = seekCursor.getValues().get(field);
+      Class<?> type = ClassUtils.primitiveToWrapper(path.getJavaType());
+      if (type.isEnum() && value instanceof String name) {
+        return Enum.valueOf((Class<Enum>) type, name);
+      }
+      Object converted =
+          type.isInstance(value) ? value : context.getTypeConverter().convert(value, type);
+      if (!(converted instanceof Comparable)) {
+        throw new IllegalArgumentException(
+            "Cursor value for "
+                + field
+                + " is not compatible with "
+                + type.getName()
+                + ": "
+                + value.getClass().getName());
+      }
+      return converted;
+    }
+  }
+
+  /**
+   * 조건 배열을 AND 또는 OR로 결합. 중첩 빌더도 같은 QueryContext를 공유. null을 반환한 조건은 제외되며, 남은 조건이 하나면 그대로
+   * 반환.
+   *
+   * @return 결합된 Predicate (적용할 조건이 없으면 null)
+   * @since 1.3.0
+   */
+  private static <T> Predicate combine(
+      Condition<T>[] conditions,
+      boolean disjunction,
+      Root<T> root,
+      CriteriaQuery<?> query,
+      CriteriaBuilder builder,
+      QueryContext context) {
+    Predicate[] predicates = new Predicate[conditions.length];
+    int count = 0;
+    for (Condition<T> condition : conditions) {
+      Predicate predicate = condition.toPredicate(root, query, builder, context);
+      if (predicate != null) {
+        predicates[count++] = predicate;
+      }
+    }
+    if (count <= 1) {
+      return count == 1 ? predicates[0] : null;
+    }
+    Predicate[] combined = count == predicates.length ? predicates : Arrays.copyOf(predicates, count);
+    return disjunction ? builder.or(combined) : builder.and(combined);
+  }
+
+  /**
+   * 빌더 내부 조건. Specification과 같지만 쿼리 단위 상태(QueryContext)를 함께 전달받음. 타입 불일치 등으로 조건을 적용할 수 없으면
+   * null을 반환하며, 해당 조건은 WHERE 절에서 제외됨.
+   *
+   * @since 1.3.0
+   */
+  @FunctionalInterface
+  interface Condition<T> {
+    Predicate toPredicate(
+        Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder, QueryContext context);
+  }
+
+  /**
+   * ConditionType이 있는 빌더 조건. 조건 최적화({@link ConditionOptimizer})에서 비교할 수 있도록 속성과 값을 함께 보관하며, 메트릭 수집
+   * 시 조건 타입별 횟수를 기록.
+   *
+   * @param values 비교 값 (BETWEEN은 시작/종료, IN/NOT_IN은 값 목록, IS_NULL/IS_NOT_NULL은 빈 배열)
+   * @since 1.3.0
+   */
+  record TypedCondition<T>(
+      ConditionType type, String property, Object[] values, Condition<T> condition)
+      implements Condition<T> {
+    @Override
+    public Predicate toPredicate(
+        Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder, QueryContext context) {
+      if (context.isMetricsEnabled()) {
+        context.getMetrics().recordCondition(type);
+      }
+      return condition.toPredicate(root, query, builder, context);
+    }
+  }
+
+  /**
+   * 중첩 빌더 조건. 하위 조건을 AND 또는 OR로 결합.
+   *
+   * @since 1.3.0
+   */
+  record GroupCondition<T>(boolean disjunction, Condition<T>[] children) implements Condition<T> {
+    @Override
+    public Predicate toPredicate(
+        Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder, QueryContext context) {
+      return combine(children, disjunction, root, query, builder, context);
+    }
+  }
+
+  /**
+   * 값이 없어 빌더에 추가되지 않은 조건.
+   *
+   * @since 1.3.0
+   */
+  private record SkippedCondition(ConditionType type, String property) {}
+
+  /**
+   * 비교 연산 Predicate 생성. 값은 Comparable 리터럴 또는 Expression(템플릿 파라미터).
+   *
+   * @since 1.3.0
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Predicate compare(
+      CriteriaBuilder builder, ConditionType type, Expression path, Object value) {
+    if (value instanceof Expression<?> expression) {
+      return switch (type) {
+        case GREATER_THAN -> builder.greaterThan(path, (Expression) expression);
+        case GREATER_EQUAL -> builder.greaterThanOrEqualTo(path, (Expression) expression);
+        case LESS_THAN -> builder.lessThan(path, (Expression) expression);
+        case LESS_EQUAL -> builder.lessThanOrEqualTo(path, (Expression) expression);
+        default -> throw new IllegalArgumentException("Unsupported comparison type: " + type);
       };
     }
+    Comparable comparable = (Comparable) value;
+    return switch (type) {
+      case GREATER_THAN -> builder.greaterThan(path, comparable);
+      case GREATER_EQUAL -> builder.greaterThanOrEqualTo(path, comparable);
+      case LESS_THAN -> builder.lessThan(path, comparable);
+      case LESS_EQUAL -> builder.lessThanOrEqualTo(path, comparable);
+      default -> throw new IllegalArgumentException("Unsupported comparison type: " + type);
+    };
   }
 }
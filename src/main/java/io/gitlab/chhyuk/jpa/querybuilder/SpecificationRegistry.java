@@ -0,0 +1,129 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.CompiledSpecification;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 이름으로 재사용하는 {@link CompiledSpecification} 저장소. 애플리케이션 시작 시 자주 쓰는 조건을 등록하고, 요청 처리 시 이름으로 조회하여
+ * 다른 조건과 결합하는 용도. 스레드 안전함.
+ *
+ * <pre>{@code
+ * SpecificationRegistry registry = new SpecificationRegistry();
+ * registry.register("activeUsers", SpecificationQueryBuilder.Builder
+ *     .create(User.class, entityManager)
+ *     .equal("status", "ACTIVE")
+ *     .freeze());
+ *
+ * Specification<User> spec = registry.get("activeUsers", User.class).and(otherSpec);
+ * }</pre>
+ *
+ * @since 1.3.0
+ */
+public final class SpecificationRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(SpecificationRegistry.class);
+
+  private final Map<String, CompiledSpecification<?>> specifications = new ConcurrentHashMap<>();
+
+  /**
+   * Specification 등록.
+   *
+   * @param name 이름
+   * @param specification 불변 Specification ({@link SpecificationQueryBuilder.Builder#freeze()})
+   * @return 등록된 Specification
+   * @throws IllegalArgumentException 이름이 비어 있거나, Specification이 null이거나, 이미 등록된 이름인 경우
+   * @since 1.3.0
+   */
+  public <T> CompiledSpecification<T> register(
+      String name, CompiledSpecification<T> specification) {
+    if (StringUtils.isBlank(name)) {
+      throw new IllegalArgumentException("Specification name cannot be blank");
+    }
+    if (specification == null) {
+      throw new IllegalArgumentException("Specification cannot be null");
+    }
+    if (specifications.putIfAbsent(name, specification) != null) {
+      throw new IllegalArgumentException("Specification already registered: " + name);
+    }
+    log.debug("Registered specification: {}", name);
+    return specification;
+  }
+
+  /**
+   * 이름으로 Specification 조회.
+   *
+   * @param name 이름
+   * @return 등록된 Specification
+   * @throws IllegalArgumentException 등록되지 않은 이름인 경우
+   * @since 1.3.0
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompiledSpecification<T> get(String name) {
+    CompiledSpecification<?> specification = specifications.get(name);
+    if (specification == null) {
+      throw new IllegalArgumentException("Specification not registered: " + name);
+    }
+    return (CompiledSpecification<T>) specification;
+  }
+
+  /**
+   * 이름으로 Specification 조회 (엔티티 타입 검증).
+   *
+   * @param name 이름
+   * @param entityClass 엔티티 클래스
+   * @return 등록된 Specification
+   * @throws IllegalArgumentException 등록되지 않은 이름이거나, 다른 엔티티 클래스로 생성된 Specification인 경우
+   * @since 1.3.0
+   */
+  public <T> CompiledSpecification<T> get(String name, Class<T> entityClass) {
+    CompiledSpecification<T> specification = get(name);
+    Class<?> registered = specification.getEntityClass();
+    if (registered != null && entityClass != null && !entityClass.isAssignableFrom(registered)) {
+      throw new IllegalArgumentException(
+          "Specification "
+              + name
+              + " is registered for "
+              + registered.getName()
+              + ", not "
+              + entityClass.getName());
+    }
+    return specification;
+  }
+
+  /**
+   * 등록 여부 확인.
+   *
+   * @param name 이름
+   * @return 등록되어 있으면 true
+   * @since 1.3.0
+   */
+  public boolean contains(String name) {
+    return name != null && specifications.containsKey(name);
+  }
+
+  /**
+   * 등록 해제.
+   *
+   * @param name 이름
+   * @return 해제되었으면 true
+   * @since 1.3.0
+   */
+  public boolean remove(String name) {
+    return name != null && specifications.remove(name) != null;
+  }
+
+  /**
+   * 등록된 이름 목록.
+   *
+   * @return 변경 불가능한 이름 집합
+   * @since 1.3.0
+   */
+  public Set<String> names() {
+    return Set.copyOf(specifications.keySet());
+  }
+}
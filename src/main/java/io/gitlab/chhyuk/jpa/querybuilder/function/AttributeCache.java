@@ -0,0 +1,152 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * (엔티티 클래스, 속성 경로) 단위로 Metamodel 속성 해석 결과를 캐싱하는 전역 캐시. 퍼시스턴스 유닛(Metamodel 인스턴스)별로 분리되며, 같은
+ * EntityManagerFactory에서 나온 모든 EntityManager와 빌더가 공유함. 잘못된 속성 경로도 invalid 엔트리로 캐싱하여 반복 조회를 피함.
+ *
+ * @since 1.3.0
+ */
+public final class AttributeCache {
+    // Metamodel은 EntityManagerFactory 수명과 같으므로 약한 참조로 보관 (팩토리 재생성 시 누수 방지)
+    private static final Map<Metamodel, UnitCache> UNITS = new WeakHashMap<>();
+
+    // 대부분의 애플리케이션은 퍼시스턴스 유닛이 하나이므로 직전 유닛을 먼저 확인 (락 회피)
+    private static volatile WeakReference<UnitCache> lastUnit = new WeakReference<>(null);
+
+    private AttributeCache() {}
+
+    /**
+     * 속성 경로를 해석. 최초 1회만 Metamodel을 조회하고 이후에는 캐시된 결과를 반환.
+     *
+     * @param metamodel 퍼시스턴스 유닛의 Metamodel
+     * @param entityClass 엔티티 클래스
+     * @param path 속성 경로 (예: "name", "team.name")
+     * @return 속성 정보 (존재하지 않는 경로면 {@link AttributeDescriptor#isValid()}가 false)
+     * @throws IllegalArgumentException entityClass가 관리 대상 타입이 아닌 경우
+     * @since 1.3.0
+     */
+    public static AttributeDescriptor resolve(Metamodel metamodel, Class<?> entityClass, String path) {
+        if (metamodel == null || entityClass == null) {
+            throw new IllegalArgumentException("Metamodel and entity class cannot be null");
+        }
+        return unit(metamodel)
+                .types
+                .computeIfAbsent(entityClass, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(path != null ? path : "", p -> resolvePath(metamodel, entityClass, p));
+    }
+
+    /**
+     * 엔티티의 단일 ID 속성을 해석 (캐시됨).
+     *
+     * @param metamodel 퍼시스턴스 유닛의 Metamodel
+     * @param entityClass 엔티티 클래스
+     * @return ID 속성 정보 (복합 키(@IdClass)인 경우 {@link AttributeDescriptor#isValid()}가 false)
+     * @throws IllegalArgumentException entityClass가 엔티티가 아닌 경우
+     * @since 1.3.0
+     */
+    public static AttributeDescriptor resolveId(Metamodel metamodel, Class<?> entityClass) {
+        if (metamodel == null || entityClass == null) {
+            throw new IllegalArgumentException("Metamodel and entity class cannot be null");
+        }
+        return unit(metamodel).ids.computeIfAbsent(entityClass, k -> resolveIdAttribute(metamodel, k));
+    }
+
+    /**
+     * 모든 캐시 엔트리 제거 (테스트, 엔티티 재로딩 시 사용).
+     *
+     * @since 1.3.0
+     */
+    public static void clear() {
+        synchronized (UNITS) {
+            UNITS.clear();
+            lastUnit = new WeakReference<>(null);
+        }
+    }
+
+    private static UnitCache unit(Metamodel metamodel) {
+        UnitCache unit = lastUnit.get();
+        if (unit != null && unit.metamodel.get() == metamodel) {
+            return unit;
+        }
+        synchronized (UNITS) {
+            unit = UNITS.computeIfAbsent(metamodel, UnitCache::new);
+            lastUnit = new WeakReference<>(unit);
+        }
+        return unit;
+    }
+
+    private static AttributeDescriptor resolvePath(
+            Metamodel metamodel, Class<?> entityClass, String path) {
+        ManagedType<?> current = metamodel.managedType(entityClass);
+        String[] segments = StringUtils.split(path, '.');
+        if (segments.length == 0) {
+            return AttributeDescriptor.invalid(path);
+        }
+
+        Attribute<?, ?> attribute = null;
+        Class<?> javaType = null;
+        boolean collection = false;
+        for (String segment : segments) {
+            if (current == null) {
+                // 기본 타입 속성 뒤에 경로가 이어지는 경우
+                return AttributeDescriptor.invalid(path);
+            }
+            try {
+                attribute = current.getAttribute(segment);
+            } catch (IllegalArgumentException e) {
+                return AttributeDescriptor.invalid(path);
+            }
+            if (attribute instanceof PluralAttribute<?, ?, ?> plural) {
+                collection = true;
+                javaType = plural.getElementType().getJavaType();
+                current = plural.getElementType() instanceof ManagedType<?> managed ? managed : null;
+            } else {
+                javaType = attribute.getJavaType();
+                current =
+                        attribute instanceof SingularAttribute<?, ?> singular
+                                        && singular.getType() instanceof ManagedType<?> managed
+                                ? managed
+                                : null;
+            }
+        }
+        return AttributeDescriptor.valid(path, javaType, collection);
+    }
+
+    private static AttributeDescriptor resolveIdAttribute(Metamodel metamodel, Class<?> entityClass) {
+        EntityType<?> entity = metamodel.entity(entityClass);
+        if (entity.hasSingleIdAttribute()) {
+            for (SingularAttribute<?, ?> attribute : entity.getSingularAttributes()) {
+                if (attribute.isId()) {
+                    return AttributeDescriptor.valid(attribute.getName(), attribute.getJavaType(), false);
+                }
+            }
+        }
+        return AttributeDescriptor.invalid("");
+    }
+
+    /**
+     * 퍼시스턴스 유닛별 캐시. Metamodel을 강하게 참조하지 않도록 약한 참조를 사용하며, 캐시 값({@link AttributeDescriptor})도
+     * Metamodel 속성 객체 대신 자바 타입과 경로만 보관함 (WeakHashMap 값이 키를 참조하면 엔트리가 제거되지 않음).
+     */
+    private static final class UnitCache {
+        private final WeakReference<Metamodel> metamodel;
+        private final Map<Class<?>, Map<String, AttributeDescriptor>> types = new ConcurrentHashMap<>();
+        private final Map<Class<?>, AttributeDescriptor> ids = new ConcurrentHashMap<>();
+
+        private UnitCache(Metamodel metamodel) {
+            this.metamodel = new WeakReference<>(metamodel);
+        }
+    }
+}
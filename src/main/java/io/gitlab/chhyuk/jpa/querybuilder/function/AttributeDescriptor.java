@@ -0,0 +1,69 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * Metamodel에서 해석된 속성 정보 (불변). 잘못된 속성 경로도 invalid 엔트리로 표현되어 캐시됨. 전역 캐시가 Metamodel을 붙잡지
+ * 않도록 Metamodel 속성 객체는 보관하지 않음.
+ *
+ * @since 1.3.0
+ */
+public final class AttributeDescriptor {
+    private final String path;
+    private final Class<?> javaType;
+    private final boolean valid;
+    private final boolean collection;
+
+    private AttributeDescriptor(String path, Class<?> javaType, boolean valid, boolean collection) {
+        this.path = path;
+        this.javaType = javaType;
+        this.valid = valid;
+        this.collection = collection;
+    }
+
+    static AttributeDescriptor valid(String path, Class<?> javaType, boolean collection) {
+        return new AttributeDescriptor(path, javaType, true, collection);
+    }
+
+    static AttributeDescriptor invalid(String path) {
+        return new AttributeDescriptor(path, null, false, false);
+    }
+
+    /**
+     * 속성 경로 (예: "team.name").
+     *
+     * @return 속성 경로
+     * @since 1.3.0
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * 비교/변환에 사용할 자바 타입. 컬렉션 속성은 요소 타입.
+     *
+     * @return 자바 타입 (invalid 엔트리인 경우 null)
+     * @since 1.3.0
+     */
+    public Class<?> getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * 경로 중 to-many(컬렉션) 속성이 포함되어 있는지 여부.
+     *
+     * @return 컬렉션 속성을 거치면 true
+     * @since 1.3.0
+     */
+    public boolean isCollection() {
+        return collection;
+    }
+
+    /**
+     * 엔티티에 존재하는 속성 경로인지 여부.
+     *
+     * @return 유효한 속성이면 true
+     * @since 1.3.0
+     */
+    public boolean isValid() {
+        return valid;
+    }
+}
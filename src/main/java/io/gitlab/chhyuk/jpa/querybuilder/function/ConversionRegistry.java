@@ -0,0 +1,329 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * (원본 타입, 목표 타입) 쌍별로 등록된 변환 함수를 사용하는 {@link TypeConverter}. 처음 만나는 타입 쌍은 원본 타입의 상위 타입까지 탐색하여 변환
+ * 함수를 찾고, 결과(변환 불가 포함)를 캐싱하므로 이후 변환은 캐시 조회 한 번으로 처리됨. 생성 후에는 변경되지 않으며 스레드 안전함.
+ *
+ * <p>해석 결과는 레지스트리별로 원본 타입({@link ClassValue})에 저장되어 원본 타입의 클래스가 언로드될 때까지 남으므로, 레지스트리는 빈이나
+ * 상수로 한 번 만들어 재사용해야 함 (요청마다 생성하지 않음).
+ *
+ * <pre>{@code
+ * ConversionRegistry registry = ConversionRegistry.builder()
+ *     .registerDefaults()
+ *     .register(String.class, YearMonth.class, YearMonth::parse)
+ *     .build();
+ * }</pre>
+ *
+ * @since 1.3.0
+ */
+public final class ConversionRegistry implements TypeConverter {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    // 변환 불가로 해석된 타입 쌍 표시
+    private static final Function<Object, Object> UNSUPPORTED = value -> null;
+
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters;
+
+    // 원본 타입 -> (목표 타입 -> 해석된 변환 함수)
+    private final ClassValue<Map<Class<?>, Function<Object, Object>>> resolved =
+            new ClassValue<>() {
+                @Override
+                protected Map<Class<?>, Function<Object, Object>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private ConversionRegistry(Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters) {
+        this.converters = converters;
+    }
+
+    /**
+     * 기본 변환 + ServiceLoader로 등록된 {@link ConverterProvider}를 포함한 공유 인스턴스.
+     *
+     * @return 기본 레지스트리
+     * @since 1.3.0
+     */
+    public static ConversionRegistry defaults() {
+        return Defaults.INSTANCE;
+    }
+
+    /**
+     * 빈 레지스트리 빌더.
+     *
+     * @return 빌더
+     * @since 1.3.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 값을 목표 타입으로 변환. 원시 타입은 래퍼 타입으로 변환됨.
+     *
+     * @param value 변환할 값
+     * @param targetType 목표 타입
+     * @return 변환된 값, 변환 함수가 없거나 실패 시 null
+     * @since 1.3.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> V convert(Object value, Class<V> targetType) {
+        if (value == null || targetType == null) {
+            return null;
+        }
+        Class<?> target = ClassUtils.primitiveToWrapper(targetType);
+        if (target.isInstance(value)) {
+            return (V) value;
+        }
+        Class<?> source = value.getClass();
+        Map<Class<?>, Function<Object, Object>> byTarget = resolved.get(source);
+        Function<Object, Object> converter = byTarget.get(target);
+        if (converter == null) {
+            converter = resolve(source, target);
+            byTarget.putIfAbsent(target, converter);
+        }
+        if (converter == UNSUPPORTED) {
+            return null;
+        }
+        try {
+            return (V) converter.apply(value);
+        } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+            // 변환 실패 시 null 반환 (로깅은 호출자에서 처리)
+            return null;
+        }
+    }
+
+    /**
+     * 타입 쌍에 대한 변환 가능 여부.
+     *
+     * @param sourceType 원본 타입
+     * @param targetType 목표 타입
+     * @return 변환 함수가 있으면 true (실제 값에 따라 변환이 실패할 수는 있음)
+     * @since 1.3.0
+     */
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        Class<?> target = ClassUtils.primitiveToWrapper(targetType);
+        Class<?> source = ClassUtils.primitiveToWrapper(sourceType);
+        return target.isAssignableFrom(source) || resolve(source, target) != UNSUPPORTED;
+    }
+
+    /** 원본 타입과 그 상위 타입(상위 클래스 우선, 이후 인터페이스) 순으로 변환 함수 탐색. */
+    private Function<Object, Object> resolve(Class<?> source, Class<?> target) {
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(source);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            Map<Class<?>, Function<Object, Object>> byTarget = converters.get(type);
+            if (byTarget != null && byTarget.containsKey(target)) {
+                return byTarget.get(target);
+            }
+            if (type.getSuperclass() != null) {
+                queue.add(type.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        if (target.isEnum() && CharSequence.class.isAssignableFrom(source)) {
+            return enumConverter(target);
+        }
+        return UNSUPPORTED;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Object> enumConverter(Class<?> enumType) {
+        return value -> Enum.valueOf((Class) enumType, value.toString().trim());
+    }
+
+    /**
+     * 레지스트리 빌더. 같은 타입 쌍을 다시 등록하면 마지막 등록이 사용됨.
+     *
+     * @since 1.3.0
+     */
+    public static final class Builder {
+        private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters =
+                new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * 변환 함수 등록. 원본 타입의 하위 타입 값에도 적용됨 (예: Number 등록 시 Long, Integer 등).
+         *
+         * @param sourceType 원본 타입
+         * @param targetType 목표 타입
+         * @param converter 변환 함수 (실패 시 IllegalArgumentException, DateTimeException 또는
+         *     ArithmeticException 발생 가능)
+         * @return 빌더
+         * @since 1.3.0
+         */
+        @SuppressWarnings("unchecked")
+        public <S, V> Builder register(
+                Class<S> sourceType,
+                Class<V> targetType,
+                Function<? super S, ? extends V> converter) {
+            if (sourceType == null || targetType == null || converter == null) {
+                throw new IllegalArgumentException(
+                        "Source type, target type and converter cannot be null");
+            }
+            converters
+                    .computeIfAbsent(sourceType, k -> new HashMap<>())
+                    .put(
+                            ClassUtils.primitiveToWrapper(targetType),
+                            (Function<Object, Object>) converter);
+            return this;
+        }
+
+        /**
+         * 기본 변환 등록 (날짜/시간, 숫자, 문자열 -> 숫자/날짜/UUID, 문자열 -> Enum은 항상 지원).
+         *
+         * @return 빌더
+         * @since 1.3.0
+         */
+        public Builder registerDefaults() {
+            // 날짜/시간 변환 (시간대가 없는 값은 UTC 기준)
+            register(ZonedDateTime.class, LocalDate.class, ZonedDateTime::toLocalDate);
+            register(ZonedDateTime.class, LocalDateTime.class, ZonedDateTime::toLocalDateTime);
+            register(ZonedDateTime.class, OffsetDateTime.class, ZonedDateTime::toOffsetDateTime);
+            register(ZonedDateTime.class, Instant.class, ZonedDateTime::toInstant);
+            register(LocalDate.class, ZonedDateTime.class, date -> date.atStartOfDay(UTC));
+            register(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay);
+            register(LocalDate.class, Instant.class, date -> date.atStartOfDay(UTC).toInstant());
+            register(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
+            register(LocalDateTime.class, ZonedDateTime.class, dateTime -> dateTime.atZone(UTC));
+            register(
+                    LocalDateTime.class,
+                    Instant.class,
+                    dateTime -> dateTime.atZone(UTC).toInstant());
+            register(OffsetDateTime.class, ZonedDateTime.class, OffsetDateTime::toZonedDateTime);
+            register(OffsetDateTime.class, Instant.class, OffsetDateTime::toInstant);
+            register(Instant.class, ZonedDateTime.class, instant -> instant.atZone(UTC));
+            register(
+                    Instant.class,
+                    LocalDateTime.class,
+                    instant -> LocalDateTime.ofInstant(instant, UTC));
+            register(Instant.class, LocalDate.class, instant -> LocalDate.ofInstant(instant, UTC));
+
+            // 숫자 타입 변환
+            // 정수 변환은 소수점 이하를 버리며, 범위를 넘으면 변환 실패
+            register(Number.class, Long.class, ConversionRegistry::toLongExact);
+            register(Number.class, Integer.class, number -> Math.toIntExact(toLongExact(number)));
+            register(Number.class, Short.class, ConversionRegistry::toShortExact);
+            register(Number.class, Double.class, Number::doubleValue);
+            register(Number.class, Float.class, Number::floatValue);
+            register(Number.class, BigDecimal.class, ConversionRegistry::toBigDecimal);
+            register(Number.class, BigInteger.class, ConversionRegistry::toBigInteger);
+
+            // 문자열 변환 (공백 문자열은 변환 실패)
+            register(String.class, Long.class, str -> Long.valueOf(str.trim()));
+            register(String.class, Integer.class, str -> Integer.valueOf(str.trim()));
+            register(String.class, Short.class, str -> Short.valueOf(str.trim()));
+            register(String.class, Double.class, str -> Double.valueOf(str.trim()));
+            register(String.class, Float.class, str -> Float.valueOf(str.trim()));
+            register(String.class, BigDecimal.class, str -> new BigDecimal(str.trim()));
+            register(String.class, BigInteger.class, str -> new BigInteger(str.trim()));
+            register(String.class, UUID.class, str -> UUID.fromString(str.trim()));
+            register(String.class, LocalDate.class, str -> LocalDate.parse(str.trim()));
+            register(String.class, LocalDateTime.class, str -> LocalDateTime.parse(str.trim()));
+            register(String.class, ZonedDateTime.class, str -> ZonedDateTime.parse(str.trim()));
+            register(String.class, OffsetDateTime.class, str -> OffsetDateTime.parse(str.trim()));
+            register(String.class, Instant.class, str -> Instant.parse(str.trim()));
+            return this;
+        }
+
+        /**
+         * ServiceLoader로 {@link ConverterProvider} 구현체를 찾아 등록.
+         *
+         * @return 빌더
+         * @since 1.3.0
+         */
+        public Builder loadProviders() {
+            ClassLoader classLoader = ConversionRegistry.class.getClassLoader();
+            for (ConverterProvider provider :
+                    ServiceLoader.load(ConverterProvider.class, classLoader)) {
+                provider.register(this);
+            }
+            return this;
+        }
+
+        /**
+         * 레지스트리 생성. 변환 결과 캐시가 레지스트리별로 유지되므로 한 번 만들어 재사용.
+         *
+         * @return 변경 불가능한 레지스트리
+         * @since 1.3.0
+         */
+        public ConversionRegistry build() {
+            Map<Class<?>, Map<Class<?>, Function<Object, Object>>> copy = new HashMap<>();
+            converters.forEach((source, byTarget) -> copy.put(source, Map.copyOf(byTarget)));
+            return new ConversionRegistry(Map.copyOf(copy));
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        if (number instanceof BigInteger bigInteger) {
+            return new BigDecimal(bigInteger);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            // 10진 표현 기준 변환 (0.1f -> 0.1)
+            return new BigDecimal(number.toString());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+
+    private static long toLongExact(Number number) {
+        if (number instanceof Long
+                || number instanceof Integer
+                || number instanceof Short
+                || number instanceof Byte) {
+            return number.longValue();
+        }
+        return toBigDecimal(number).toBigInteger().longValueExact();
+    }
+
+    private static short toShortExact(Number number) {
+        long value = toLongExact(number);
+        if (value != (short) value) {
+            throw new ArithmeticException("Short overflow: " + number);
+        }
+        return (short) value;
+    }
+
+    private static BigInteger toBigInteger(Number number) {
+        if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toBigInteger();
+        }
+        return BigInteger.valueOf(number.longValue());
+    }
+
+    /** 최초 사용 시 생성되는 기본 인스턴스. */
+    private static final class Defaults {
+        private static final ConversionRegistry INSTANCE =
+                builder().registerDefaults().loadProviders().build();
+    }
+}
@@ -0,0 +1,27 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * {@link ConversionRegistry#defaults()}에 변환 함수를 추가하는 확장 지점. 구현체를
+ * {@code META-INF/services/io.gitlab.chhyuk.jpa.querybuilder.function.ConverterProvider}에 등록하면 ServiceLoader로
+ * 로드됨. 기본 변환과 같은 타입 쌍을 등록하면 기본 변환을 대체함.
+ *
+ * <pre>{@code
+ * public class YearMonthConverterProvider implements ConverterProvider {
+ *     public void register(ConversionRegistry.Builder builder) {
+ *         builder.register(String.class, YearMonth.class, YearMonth::parse);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface ConverterProvider {
+    /**
+     * 변환 함수 등록.
+     *
+     * @param builder 레지스트리 빌더
+     * @since 1.3.0
+     */
+    void register(ConversionRegistry.Builder builder);
+}
@@ -1,6 +1,5 @@
 package io.gitlab.chhyuk.jpa.querybuilder.function;
 
-import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -20,11 +19,11 @@ public interface DateParser {
    * @since 1.0.0
    */
   static DateParser defaultParser() {
-    return defaultParser(ZoneId.of("UTC"));
+    return DateParsers.UTC_DEFAULT;
   }
 
   /**
-   * 지정된 시간대를 사용하는 날짜 파서.
+   * 지정된 시간대를 사용하는 날짜 파서. yyyy-MM-dd 형식은 포맷터 없이 직접 파싱됨.
    *
    * @param zoneId 시간대
    * @return DateParser 구현체
@@ -34,13 +33,46 @@ public interface DateParser {
     if (zoneId == null) {
       throw new IllegalArgumentException("ZoneId cannot be null");
     }
-    return date -> {
-      if (date == null || date.trim().isEmpty()) {
-        throw new DateTimeParseException("Date string cannot be null or empty", date, 0);
-      }
-      return LocalDate.parse(date.trim(), DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-          .atStartOfDay(zoneId);
-    };
+    return date -> DateParsers.parseIsoDate(DateParsers.requireText(date), zoneId);
+  }
+
+  /**
+   * ISO 날짜(2025-09-01), ISO 날짜/시간(2025-09-01T10:15:30), 오프셋/시간대 포함 날짜/시간(2025-09-01T10:15:30+09:00),
+   * epoch 밀리초(1756684800000)를 모두 허용하는 파서. 시간대 정보가 없는 값은 zoneId 기준.
+   *
+   * @param zoneId 시간대
+   * @return DateParser 구현체
+   * @since 1.3.0
+   */
+  static DateParser isoParser(ZoneId zoneId) {
+    if (zoneId == null) {
+      throw new IllegalArgumentException("ZoneId cannot be null");
+    }
+    return date -> DateParsers.parseIso(DateParsers.requireText(date), zoneId);
+  }
+
+  /**
+   * 지정한 패턴을 순서대로 시도하는 파서. 포맷터는 생성 시 한 번만 만들어지며, 날짜만 있는 패턴은 zoneId 기준 자정으로 변환됨. 예:
+   * DateParser.ofPatterns(ZoneId.of("Asia/Seoul"), "yyyy-MM-dd", "yyyy.MM.dd", "yyyyMMdd")
+   *
+   * @param zoneId 시간대
+   * @param patterns DateTimeFormatter 패턴 (1개 이상)
+   * @return DateParser 구현체
+   * @throws IllegalArgumentException 패턴이 없거나 잘못된 경우
+   * @since 1.3.0
+   */
+  static DateParser ofPatterns(ZoneId zoneId, String... patterns) {
+    if (zoneId == null) {
+      throw new IllegalArgumentException("ZoneId cannot be null");
+    }
+    if (patterns == null || patterns.length == 0) {
+      throw new IllegalArgumentException("At least one pattern is required");
+    }
+    DateTimeFormatter[] formatters = new DateTimeFormatter[patterns.length];
+    for (int i = 0; i < patterns.length; i++) {
+      formatters[i] = DateTimeFormatter.ofPattern(patterns[i]);
+    }
+    return date -> DateParsers.parseWith(DateParsers.requireText(date), zoneId, formatters);
   }
 
   /**
@@ -0,0 +1,136 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * {@link DateParser} 기본 구현에서 사용하는 파싱 함수. 포맷터는 모두 미리 만들어진 상수 또는 생성 시 한 번 만든 인스턴스를 사용.
+ *
+ * @since 1.3.0
+ */
+final class DateParsers {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    static final DateParser UTC_DEFAULT = date -> parseIsoDate(requireText(date), UTC);
+
+    private DateParsers() {}
+
+    static String requireText(String date) {
+        if (date == null || date.isBlank()) {
+            // DateTimeParseException은 null 문자열을 받지 못하므로 빈 문자열로 전달
+            throw new DateTimeParseException(
+                    "Date string cannot be null or empty", date == null ? "" : date, 0);
+        }
+        return date.trim();
+    }
+
+    /**
+     * yyyy-MM-dd 형식을 포맷터 없이 파싱. 존재하지 않는 일자(2월 30일 등)는 해당 월의 마지막 날로 조정 (기존 ofPattern 포맷터의
+     * ResolverStyle.SMART와 동일).
+     */
+    static ZonedDateTime parseIsoDate(String text, ZoneId zoneId) {
+        LocalDate date = fastIsoDate(text);
+        if (date == null) {
+            throw new DateTimeParseException(
+                    "Text '" + text + "' could not be parsed as yyyy-MM-dd", text, 0);
+        }
+        return date.atStartOfDay(zoneId);
+    }
+
+    /** ISO 날짜, ISO 날짜/시간, 오프셋/시간대 포함 날짜/시간, epoch 밀리초 순으로 형식을 판별하여 파싱. */
+    static ZonedDateTime parseIso(String text, ZoneId zoneId) {
+        LocalDate date = fastIsoDate(text);
+        if (date != null) {
+            return date.atStartOfDay(zoneId);
+        }
+        if (isEpochMillis(text)) {
+            try {
+                return Instant.ofEpochMilli(Long.parseLong(text)).atZone(zoneId);
+            } catch (NumberFormatException | DateTimeException e) {
+                throw new DateTimeParseException("Epoch millis out of range", text, 0, e);
+            }
+        }
+        if (text.indexOf('T') > 0) {
+            TemporalAccessor parsed =
+                    DateTimeFormatter.ISO_DATE_TIME.parseBest(
+                            text, ZonedDateTime::from, LocalDateTime::from);
+            return parsed instanceof ZonedDateTime zoned
+                    ? zoned
+                    : ((LocalDateTime) parsed).atZone(zoneId);
+        }
+        throw new DateTimeParseException(
+                "Text '" + text + "' is not an ISO date, date-time or epoch millis", text, 0);
+    }
+
+    /** 포맷터를 순서대로 시도. 모두 실패하면 첫 번째 포맷터의 예외를 던짐. */
+    static ZonedDateTime parseWith(String text, ZoneId zoneId, DateTimeFormatter[] formatters) {
+        DateTimeParseException first = null;
+        for (DateTimeFormatter formatter : formatters) {
+            try {
+                TemporalAccessor parsed =
+                        formatter.parseBest(
+                                text, ZonedDateTime::from, LocalDateTime::from, LocalDate::from);
+                if (parsed instanceof ZonedDateTime zoned) {
+                    return zoned;
+                }
+                if (parsed instanceof LocalDateTime dateTime) {
+                    return dateTime.atZone(zoneId);
+                }
+                return ((LocalDate) parsed).atStartOfDay(zoneId);
+            } catch (DateTimeParseException e) {
+                if (first == null) {
+                    first = e;
+                }
+            }
+        }
+        throw first;
+    }
+
+    /** yyyy-MM-dd 고정 형식이면 LocalDate, 아니면 null. */
+    private static LocalDate fastIsoDate(String text) {
+        if (text.length() != 10 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        return firstDay.withDayOfMonth(Math.min(day, firstDay.lengthOfMonth()));
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isEpochMillis(String text) {
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == text.length()) {
+            return false;
+        }
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * Hibernate 6의 {@link HibernateCriteriaBuilder#count(Expression,
+ * org.hibernate.query.criteria.JpaWindow)}를 사용하는 {@link WindowCountDialect}. hibernate-core가 클래스패스에 있어야
+ * 함 (이 라이브러리는 컴파일 시에만 의존). Hibernate Dialect가 윈도우 함수를 지원하지 않으면 null을 반환함.
+ *
+ * @since 1.3.0
+ */
+public class HibernateWindowCountDialect implements WindowCountDialect {
+
+    @Override
+    public Expression<Long> countOver(
+            EntityManager entityManager, CriteriaBuilder builder, Root<?> root) {
+        if (!(builder instanceof HibernateCriteriaBuilder hibernate)
+                || !supportsWindowFunctions(entityManager)) {
+            return null;
+        }
+        return hibernate.count(root, hibernate.createWindow());
+    }
+
+    private static boolean supportsWindowFunctions(EntityManager entityManager) {
+        try {
+            return entityManager
+                    .getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect()
+                    .supportsWindowFunctions();
+        } catch (PersistenceException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.lang.reflect.Array;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * 값 목록 전체를 배열 파라미터 하나로 바인딩하는 IN 조건 생성 방식 (데이터베이스/JPA 구현체별 확장 지점). 값 개수와 관계없이 SQL 형태가 같으므로
+ * 문장 캐시를 재사용할 수 있음.
+ *
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface InListDialect {
+
+    /**
+     * Hibernate 6의 array_contains 함수를 사용하는 구현. PostgreSQL에서는 {@code col = any(?)}, H2 등에서는 각 데이터베이스의 배열
+     * 포함 함수로 변환됨. 배열 타입을 지원하지 않는 데이터베이스에서는 사용할 수 없음. enum 경로는 일반 IN 목록으로 생성됨.
+     *
+     * @return InListDialect 구현체
+     * @throws IllegalArgumentException 경로 타입이 아닌 값이 전달된 경우 (빌더는 변환한 값만 전달함)
+     * @since 1.3.0
+     */
+    static InListDialect arrayContains() {
+        return (builder, expression, values) -> {
+            Class<?> elementType = ClassUtils.primitiveToWrapper(expression.getJavaType());
+            if (elementType.isEnum()) {
+                // Hibernate는 enum 배열 리터럴을 지원하지 않으므로 일반 IN 목록 사용
+                CriteriaBuilder.In<Object> in = builder.in(expression);
+                for (Object value : values) {
+                    in.value(value);
+                }
+                return in;
+            }
+            Object array = Array.newInstance(elementType, values.length);
+            for (int i = 0; i < values.length; i++) {
+                if (!elementType.isInstance(values[i])) {
+                    throw new IllegalArgumentException(
+                            "Array parameter value must be "
+                                    + elementType.getName()
+                                    + ", got: "
+                                    + values[i].getClass().getName());
+                }
+                Array.set(array, i, values[i]);
+            }
+            return builder.isTrue(
+                    builder.function(
+                            "array_contains", Boolean.class, builder.literal(array), expression));
+        };
+    }
+
+    /**
+     * 배열 파라미터 IN 조건 생성.
+     *
+     * @param builder CriteriaBuilder
+     * @param expression 비교 대상 경로
+     * @param values 중복이 제거되고 경로 타입으로 변환된 값 목록 (비어 있지 않음, 변환할 수 없는 값이 있으면 일반 IN 목록이
+     *     사용되어 호출되지 않음)
+     * @return Predicate
+     * @since 1.3.0
+     */
+    Predicate in(CriteriaBuilder builder, Expression<?> expression, Object[] values);
+}
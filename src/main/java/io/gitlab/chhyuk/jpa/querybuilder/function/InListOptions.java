@@ -0,0 +1,97 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * 큰 IN 목록의 SQL 생성 방식 설정. 불변 객체이며 with 메서드는 새 인스턴스를 반환함.
+ *
+ * <ul>
+ *   <li>padding: 바인드 파라미터 수를 2의 거듭제곱으로 맞춤 (마지막 값 반복). 목록 길이가 달라도 SQL 형태가 log2(n)가지로 제한되어 문장 캐시
+ *       재사용률이 높아짐
+ *   <li>chunkSize: 값 개수가 이 값을 넘으면 chunkSize 단위 IN 목록을 OR로 결합 (예: Oracle의 IN 1000개 제한)
+ *   <li>arrayThreshold: 값 개수가 이 값 이상이면 {@link InListDialect}로 배열 파라미터 하나를 바인딩
+ * </ul>
+ *
+ * @since 1.3.0
+ */
+public final class InListOptions {
+    private static final InListOptions DEFAULTS = new InListOptions(false, 0, null, 0);
+
+    private final boolean padding;
+    private final int chunkSize;
+    private final InListDialect dialect;
+    private final int arrayThreshold;
+
+    private InListOptions(boolean padding, int chunkSize, InListDialect dialect, int arrayThreshold) {
+        this.padding = padding;
+        this.chunkSize = chunkSize;
+        this.dialect = dialect;
+        this.arrayThreshold = arrayThreshold;
+    }
+
+    /**
+     * 기본 설정 (패딩, 분할, 배열 파라미터 모두 사용 안 함).
+     *
+     * @return 기본 설정
+     * @since 1.3.0
+     */
+    public static InListOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 파라미터 패딩 사용 여부 설정.
+     *
+     * @param padding true면 2의 거듭제곱 크기로 패딩
+     * @return 새 설정
+     * @since 1.3.0
+     */
+    public InListOptions withPadding(boolean padding) {
+        return new InListOptions(padding, chunkSize, dialect, arrayThreshold);
+    }
+
+    /**
+     * IN 목록 분할 크기 설정.
+     *
+     * @param chunkSize 하나의 IN 목록에 들어갈 최대 값 개수 (0이면 분할 안 함)
+     * @return 새 설정
+     * @throws IllegalArgumentException chunkSize가 음수인 경우
+     * @since 1.3.0
+     */
+    public InListOptions withChunkSize(int chunkSize) {
+        if (chunkSize < 0) {
+            throw new IllegalArgumentException("Chunk size cannot be negative: " + chunkSize);
+        }
+        return new InListOptions(padding, chunkSize, dialect, arrayThreshold);
+    }
+
+    /**
+     * 배열 파라미터 모드 설정. 예: withArrayParameter(InListDialect.arrayContains(), 64)
+     *
+     * @param dialect 배열 파라미터 IN 조건 생성 방식 (null이면 사용 안 함)
+     * @param threshold 배열 파라미터를 사용할 최소 값 개수 (1 이상)
+     * @return 새 설정
+     * @throws IllegalArgumentException threshold가 1보다 작은 경우
+     * @since 1.3.0
+     */
+    public InListOptions withArrayParameter(InListDialect dialect, int threshold) {
+        if (dialect != null && threshold < 1) {
+            throw new IllegalArgumentException("Array threshold must be positive: " + threshold);
+        }
+        return new InListOptions(padding, chunkSize, dialect, dialect != null ? threshold : 0);
+    }
+
+    public boolean isPadding() {
+        return padding;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public InListDialect getDialect() {
+        return dialect;
+    }
+
+    public int getArrayThreshold() {
+        return arrayThreshold;
+    }
+}
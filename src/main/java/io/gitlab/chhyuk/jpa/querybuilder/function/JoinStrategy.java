@@ -0,0 +1,20 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * 조인 조건({@link JoinCondition}) 목록을 SQL로 표현하는 방식.
+ *
+ * @since 1.3.0
+ */
+public enum JoinStrategy {
+    /**
+     * 루트 쿼리에 직접 조인 후 조건 적용. to-many 조인이면 행 중복 제거를 위해 DISTINCT가 함께 적용됨. 같은 연관관계를 쓰는 다른 조건, 정렬과
+     * 조인을 공유함 (기본값).
+     */
+    JOIN,
+
+    /**
+     * 상관 EXISTS 서브쿼리(세미 조인)로 조건 적용. 루트 쿼리에 조인과 DISTINCT가 추가되지 않으므로 인덱스 순서 페이징이 유지됨. 서브쿼리는 항상
+     * INNER 조인이므로, 자식이 없는 행을 찾는 LEFT 조인 + IS_NULL 조합은 JOIN 방식과 결과가 다름.
+     */
+    EXISTS
+}
@@ -0,0 +1,97 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer {@link MeterRegistry}로 메트릭을 발행하는 {@link QueryMetrics}. micrometer-core가 클래스패스에 있어야 함 (이 라이브러리는
+ * 컴파일 시에만 의존).
+ *
+ * <ul>
+ *   <li>{@code jpa.spec.build} (Timer): toPredicate 소요 시간. 태그: entity, query(select/count)
+ *   <li>{@code jpa.spec.conditions} (Counter): 평가된 조건 수. 태그: type
+ *   <li>{@code jpa.spec.conditions.skipped} (Counter): null/공백 값으로 무시된 조건 수. 태그: type
+ *   <li>{@code jpa.spec.fallbacks} (Counter): 조건을 적용하지 못하고 무시한 수. 태그: reason(type_mismatch/invalid_property),
+ *       type
+ * </ul>
+ *
+ * <p>속성 이름은 태그 카디널리티를 키우므로 태그로 사용하지 않음.
+ *
+ * @since 1.3.0
+ */
+public class MicrometerQueryMetrics implements QueryMetrics {
+    private static final String NO_TYPE = "none";
+
+    private final MeterRegistry registry;
+    private final Map<ConditionType, Counter> conditions = new EnumMap<>(ConditionType.class);
+    private final Map<ConditionType, Counter> skipped = new EnumMap<>(ConditionType.class);
+    private final Map<ConditionType, Counter> typeMismatches = new EnumMap<>(ConditionType.class);
+    private final Counter invalidProperties;
+    private final Map<Class<?>, Timer> selectTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timer> countTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 메트릭 레지스트리로 생성. 조건 타입별 Counter는 생성 시 미리 등록됨.
+     *
+     * @param registry 메트릭 레지스트리
+     * @since 1.3.0
+     */
+    public MicrometerQueryMetrics(MeterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("MeterRegistry cannot be null");
+        }
+        this.registry = registry;
+        // 조건 타입은 고정되어 있으므로 미리 등록하여 기록 시 조회 비용 제거
+        for (ConditionType type : ConditionType.values()) {
+            String tag = type.name();
+            conditions.put(type, registry.counter("jpa.spec.conditions", "type", tag));
+            skipped.put(type, registry.counter("jpa.spec.conditions.skipped", "type", tag));
+            typeMismatches.put(
+                    type,
+                    registry.counter("jpa.spec.fallbacks", "reason", "type_mismatch", "type", tag));
+        }
+        this.invalidProperties =
+                registry.counter("jpa.spec.fallbacks", "reason", "invalid_property", "type", NO_TYPE);
+    }
+
+    @Override
+    public void recordBuild(Class<?> entityClass, boolean countQuery, long nanos) {
+        Class<?> key = entityClass != null ? entityClass : Object.class;
+        Map<Class<?>, Timer> timers = countQuery ? countTimers : selectTimers;
+        timers.computeIfAbsent(key, k -> timer(entityClass, countQuery))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCondition(ConditionType type) {
+        conditions.get(type).increment();
+    }
+
+    @Override
+    public void recordSkipped(ConditionType type, String property) {
+        skipped.get(type).increment();
+    }
+
+    @Override
+    public void recordTypeMismatch(ConditionType type, String property) {
+        typeMismatches.get(type).increment();
+    }
+
+    @Override
+    public void recordInvalidProperty(String property) {
+        invalidProperties.increment();
+    }
+
+    private Timer timer(Class<?> entityClass, boolean countQuery) {
+        return Timer.builder("jpa.spec.build")
+                .description("Time spent building JPA predicates from a specification")
+                .tag("entity", entityClass != null ? entityClass.getSimpleName() : "unknown")
+                .tag("query", countQuery ? "count" : "select")
+                .register(registry);
+    }
+}
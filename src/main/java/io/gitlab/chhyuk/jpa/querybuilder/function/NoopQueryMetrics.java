@@ -0,0 +1,12 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * 아무 작업도 하지 않는 {@link QueryMetrics}. {@link QueryMetrics#noop()}으로 접근.
+ *
+ * @since 1.3.0
+ */
+final class NoopQueryMetrics implements QueryMetrics {
+    static final NoopQueryMetrics INSTANCE = new NoopQueryMetrics();
+
+    private NoopQueryMetrics() {}
+}
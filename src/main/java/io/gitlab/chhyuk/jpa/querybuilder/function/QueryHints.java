@@ -0,0 +1,256 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 쿼리 실행 힌트 설정 (타임아웃, fetch size, 읽기 전용, flush 모드, 2차 캐시). 불변 객체이며 with 메서드는 새 인스턴스를 반환함. 지정하지 않은 항목은
+ * null이며 적용되지 않음.
+ *
+ * <p>타임아웃은 JPA 표준 힌트, fetch size/읽기 전용/캐시는 Hibernate 힌트 이름을 사용함 (다른 JPA 구현체는 무시함). flush 모드는
+ * {@link Query#setFlushMode(FlushModeType)}로 적용됨. JDBC 쿼리 타임아웃은 초 단위이므로 타임아웃은 초 단위로 올려서 적용됨 (500ms는
+ * 1초, 1.5초는 2초).
+ *
+ * <pre>{@code
+ * // 애플리케이션 시작 시 전역 기본값 설정
+ * QueryHints.setDefaults(QueryHints.empty().withTimeout(Duration.ofSeconds(10)));
+ * }</pre>
+ *
+ * @since 1.3.0
+ */
+public final class QueryHints {
+    /** 쿼리 타임아웃 (밀리초, JDBC에는 초 단위로 적용). */
+    public static final String TIMEOUT = "jakarta.persistence.query.timeout";
+
+    /** JDBC fetch size. */
+    public static final String FETCH_SIZE = "org.hibernate.fetchSize";
+
+    /** 읽기 전용 조회 (변경 감지용 스냅샷 생략). */
+    public static final String READ_ONLY = "org.hibernate.readOnly";
+
+    /** 쿼리 결과 캐시 사용. */
+    public static final String CACHEABLE = "org.hibernate.cacheable";
+
+    /** 쿼리 결과 캐시 영역. */
+    public static final String CACHE_REGION = "org.hibernate.cacheRegion";
+
+    private static final QueryHints EMPTY = new QueryHints(null, null, null, null, null, null);
+
+    private static volatile QueryHints defaults = EMPTY;
+
+    private final Duration timeout;
+    private final Integer fetchSize;
+    private final Boolean readOnly;
+    private final FlushModeType flushMode;
+    private final Boolean cacheable;
+    private final String cacheRegion;
+
+    private QueryHints(
+            Duration timeout,
+            Integer fetchSize,
+            Boolean readOnly,
+            FlushModeType flushMode,
+            Boolean cacheable,
+            String cacheRegion) {
+        this.timeout = timeout;
+        this.fetchSize = fetchSize;
+        this.readOnly = readOnly;
+        this.flushMode = flushMode;
+        this.cacheable = cacheable;
+        this.cacheRegion = cacheRegion;
+    }
+
+    /**
+     * 아무 힌트도 지정하지 않은 설정.
+     *
+     * @return 빈 설정
+     * @since 1.3.0
+     */
+    public static QueryHints empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전역 기본값. 빌더에서 지정한 항목이 우선함.
+     *
+     * @return 전역 기본값 (설정하지 않았으면 빈 설정)
+     * @since 1.3.0
+     */
+    public static QueryHints defaults() {
+        return defaults;
+    }
+
+    /**
+     * 전역 기본값 설정. 이후 실행되는 모든 쿼리에 적용되므로 애플리케이션 시작 시 한 번 설정.
+     *
+     * @param hints 기본값 (null이면 빈 설정)
+     * @since 1.3.0
+     */
+    public static void setDefaults(QueryHints hints) {
+        defaults = hints != null ? hints : EMPTY;
+    }
+
+    /**
+     * 쿼리 타임아웃 설정. JDBC 타임아웃이 초 단위이므로 1초 미만 단위는 올림 (1초 미만 값을 내림하면 0, 즉 타임아웃 없음이 됨).
+     *
+     * @param timeout 타임아웃 (null이면 지정 안 함)
+     * @return 새 설정
+     * @throws IllegalArgumentException 타임아웃이 0 이하인 경우
+     * @since 1.3.0
+     */
+    public QueryHints withTimeout(Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        return new QueryHints(timeout, fetchSize, readOnly, flushMode, cacheable, cacheRegion);
+    }
+
+    /**
+     * JDBC fetch size 설정.
+     *
+     * @param fetchSize 한 번에 가져올 행 수 (null이면 지정 안 함)
+     * @return 새 설정
+     * @throws IllegalArgumentException fetchSize가 0 이하인 경우
+     * @since 1.3.0
+     */
+    public QueryHints withFetchSize(Integer fetchSize) {
+        if (fetchSize != null && fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive: " + fetchSize);
+        }
+        return new QueryHints(timeout, fetchSize, readOnly, flushMode, cacheable, cacheRegion);
+    }
+
+    /**
+     * 읽기 전용 조회 설정. 조회한 엔티티의 변경 감지용 스냅샷을 만들지 않음.
+     *
+     * @param readOnly 읽기 전용 여부 (null이면 지정 안 함)
+     * @return 새 설정
+     * @since 1.3.0
+     */
+    public QueryHints withReadOnly(Boolean readOnly) {
+        return new QueryHints(timeout, fetchSize, readOnly, flushMode, cacheable, cacheRegion);
+    }
+
+    /**
+     * flush 모드 설정. COMMIT이면 쿼리 실행 전 자동 flush를 하지 않음.
+     *
+     * @param flushMode flush 모드 (null이면 지정 안 함)
+     * @return 새 설정
+     * @since 1.3.0
+     */
+    public QueryHints withFlushMode(FlushModeType flushMode) {
+        return new QueryHints(timeout, fetchSize, readOnly, flushMode, cacheable, cacheRegion);
+    }
+
+    /**
+     * 쿼리 결과 캐시 설정.
+     *
+     * @param cacheable 캐시 사용 여부 (null이면 지정 안 함)
+     * @param cacheRegion 캐시 영역 (null이면 기본 영역)
+     * @return 새 설정
+     * @since 1.3.0
+     */
+    public QueryHints withCacheable(Boolean cacheable, String cacheRegion) {
+        return new QueryHints(timeout, fetchSize, readOnly, flushMode, cacheable, cacheRegion);
+    }
+
+    /**
+     * 다른 설정과 병합. 다른 설정에서 지정한 항목이 우선함.
+     *
+     * @param other 우선할 설정
+     * @return 병합된 설정
+     * @since 1.3.0
+     */
+    public QueryHints overrideWith(QueryHints other) {
+        if (other == null || other == EMPTY) {
+            return this;
+        }
+        if (this == EMPTY) {
+            return other;
+        }
+        return new QueryHints(
+                other.timeout != null ? other.timeout : timeout,
+                other.fetchSize != null ? other.fetchSize : fetchSize,
+                other.readOnly != null ? other.readOnly : readOnly,
+                other.flushMode != null ? other.flushMode : flushMode,
+                other.cacheable != null ? other.cacheable : cacheable,
+                other.cacheable != null ? other.cacheRegion : cacheRegion);
+    }
+
+    /**
+     * 힌트 이름별 값 (flush 모드 제외).
+     *
+     * @return 지정한 항목의 힌트
+     * @since 1.3.0
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> hints = new LinkedHashMap<>();
+        if (timeout != null) {
+            hints.put(TIMEOUT, timeoutMillis(timeout));
+        }
+        if (fetchSize != null) {
+            hints.put(FETCH_SIZE, fetchSize);
+        }
+        if (readOnly != null) {
+            hints.put(READ_ONLY, readOnly);
+        }
+        if (cacheable != null) {
+            hints.put(CACHEABLE, cacheable);
+            if (cacheable && cacheRegion != null) {
+                hints.put(CACHE_REGION, cacheRegion);
+            }
+        }
+        return hints;
+    }
+
+    /**
+     * 쿼리에 힌트와 flush 모드 적용.
+     *
+     * @param query 쿼리
+     * @since 1.3.0
+     */
+    public void applyTo(Query query) {
+        toMap().forEach(query::setHint);
+        if (flushMode != null) {
+            query.setFlushMode(flushMode);
+        }
+    }
+
+    /** 초 단위로 올린 타임아웃 (밀리초). */
+    private static int timeoutMillis(Duration timeout) {
+        long seconds = timeout.getSeconds() + (timeout.getNano() > 0 ? 1 : 0);
+        return (int) Math.min(seconds, Integer.MAX_VALUE / 1000) * 1000;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public Boolean getReadOnly() {
+        return readOnly;
+    }
+
+    public FlushModeType getFlushMode() {
+        return flushMode;
+    }
+
+    public Boolean getCacheable() {
+        return cacheable;
+    }
+
+    public String getCacheRegion() {
+        return cacheRegion;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryHints{" + toMap() + (flushMode != null ? ", flushMode=" + flushMode : "") + "}";
+    }
+}
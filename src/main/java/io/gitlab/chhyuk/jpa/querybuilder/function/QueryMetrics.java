@@ -0,0 +1,65 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+/**
+ * 빌더의 Predicate 생성 과정에서 발생하는 이벤트를 수집하는 확장 지점. 모든 메서드는 기본적으로 아무 작업도 하지 않으므로 필요한 이벤트만 구현하면 됨.
+ * 구현체는 여러 스레드에서 동시에 호출되므로 스레드 안전해야 함.
+ *
+ * @see MicrometerQueryMetrics
+ * @since 1.3.0
+ */
+public interface QueryMetrics {
+
+    /**
+     * 아무 작업도 하지 않는 기본 구현. 빌더는 이 인스턴스인 경우 시간 측정과 이벤트 호출을 생략함.
+     *
+     * @return 기본 구현
+     * @since 1.3.0
+     */
+    static QueryMetrics noop() {
+        return NoopQueryMetrics.INSTANCE;
+    }
+
+    /**
+     * Specification.toPredicate 1회 소요 시간.
+     *
+     * @param entityClass 엔티티 클래스 (Metamodel 미사용 빌더면 null)
+     * @param countQuery count 쿼리 여부
+     * @param nanos 소요 시간 (나노초)
+     * @since 1.3.0
+     */
+    default void recordBuild(Class<?> entityClass, boolean countQuery, long nanos) {}
+
+    /**
+     * 조건 평가 1회 (무시된 조건 포함).
+     *
+     * @param type 조건 타입
+     * @since 1.3.0
+     */
+    default void recordCondition(ConditionType type) {}
+
+    /**
+     * 값이 null 또는 공백이어서 무시된 조건.
+     *
+     * @param type 조건 타입
+     * @param property 속성 이름
+     * @since 1.3.0
+     */
+    default void recordSkipped(ConditionType type, String property) {}
+
+    /**
+     * 타입 불일치(변환 실패, Comparable 아님)로 조건이 무시된 경우.
+     *
+     * @param type 조건 타입
+     * @param property 속성 이름
+     * @since 1.3.0
+     */
+    default void recordTypeMismatch(ConditionType type, String property) {}
+
+    /**
+     * 존재하지 않는 속성 또는 조인 경로로 조건이 무시된 경우.
+     *
+     * @param property 속성 또는 조인 경로
+     * @since 1.3.0
+     */
+    default void recordInvalidProperty(String property) {}
+}
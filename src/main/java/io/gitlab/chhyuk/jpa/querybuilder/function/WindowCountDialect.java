@@ -0,0 +1,27 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 페이지 조회 시 전체 건수를 {@code count(*) over()} 윈도우 함수로 함께 조회하기 위한 확장 지점. JPA Criteria는 윈도우 함수를 표현할 수 없으므로
+ * JPA 구현체별로 구현함.
+ *
+ * @since 1.3.0
+ */
+@FunctionalInterface
+public interface WindowCountDialect {
+
+    /**
+     * 전체 건수 윈도우 함수 표현식 생성.
+     *
+     * @param entityManager 쿼리를 실행할 EntityManager
+     * @param builder CriteriaBuilder
+     * @param root 조회 대상 루트
+     * @return {@code count(*) over()} 표현식, 현재 데이터베이스나 구현체에서 지원하지 않으면 null (count 쿼리로 대체됨)
+     * @since 1.3.0
+     */
+    Expression<Long> countOver(EntityManager entityManager, CriteriaBuilder builder, Root<?> root);
+}
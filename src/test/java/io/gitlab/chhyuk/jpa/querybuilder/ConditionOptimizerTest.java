@@ -0,0 +1,234 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Condition;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.GroupCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.TypedCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConditionType;
+import io.gitlab.chhyuk.jpa.querybuilder.function.ConversionRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConditionOptimizerTest {
+
+  // 속성 타입 (Metamodel 대신 사용). 없는 속성은 타입을 알 수 없는 경우.
+  private static final Map<String, Class<?>> TYPES =
+      Map.of("age", Integer.class, "role", String.class);
+
+  private final ConditionOptimizer.Factory<Object> factory = new TestFactory();
+
+  @Test
+  void mergesRangeAfterConvertingStringBounds() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.GREATER_EQUAL, "age", "9"),
+            condition(ConditionType.LESS_EQUAL, "age", "10"));
+
+    assertEquals(1, optimized.length);
+    TypedCondition<?> between = assertInstanceOf(TypedCondition.class, optimized[0]);
+    assertEquals(ConditionType.BETWEEN, between.type());
+    assertArrayEquals(new Object[] {9, 10}, between.values());
+    assertFalse(ConditionOptimizer.isUnsatisfiable(optimized));
+  }
+
+  @Test
+  void equalValuesThatConvertToSameValueAreNotContradiction() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.EQUAL, "age", "01"),
+            condition(ConditionType.EQUAL, "age", "1"));
+
+    assertFalse(ConditionOptimizer.isUnsatisfiable(optimized));
+    assertEquals(2, optimized.length);
+  }
+
+  @Test
+  void differentEqualValuesAreContradiction() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.EQUAL, "role", "ADMIN"),
+            condition(ConditionType.EQUAL, "role", "OWNER"));
+
+    assertTrue(ConditionOptimizer.isUnsatisfiable(optimized));
+    assertSame(ConditionOptimizer.never(), optimized[0]);
+  }
+
+  @Test
+  void emptyRangeIsContradiction() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.GREATER_THAN, "age", "30"),
+            condition(ConditionType.LESS_THAN, "age", 20));
+
+    assertTrue(ConditionOptimizer.isUnsatisfiable(optimized));
+  }
+
+  @Test
+  void equalOutsideRangeIsContradiction() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.EQUAL, "age", "5"),
+            condition(ConditionType.GREATER_EQUAL, "age", 10));
+
+    assertTrue(ConditionOptimizer.isUnsatisfiable(optimized));
+  }
+
+  @Test
+  void isNullWithValueIsContradiction() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.IS_NULL, "role"),
+            condition(ConditionType.EQUAL, "role", "A"));
+
+    assertTrue(ConditionOptimizer.isUnsatisfiable(optimized));
+  }
+
+  @Test
+  void keepsTightestBound() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.GREATER_THAN, "age", 20),
+            condition(ConditionType.GREATER_THAN, "age", "25"));
+
+    assertEquals(1, optimized.length);
+    TypedCondition<?> lower = assertInstanceOf(TypedCondition.class, optimized[0]);
+    assertEquals(ConditionType.GREATER_THAN, lower.type());
+    assertArrayEquals(new Object[] {25}, lower.values());
+  }
+
+  @Test
+  void skipsValueComparisonWhenTypeIsUnknown() {
+    TypedCondition<Object> lower = condition(ConditionType.GREATER_EQUAL, "score", "9");
+    TypedCondition<Object> upper = condition(ConditionType.LESS_EQUAL, "score", "10");
+
+    Condition<Object>[] optimized = optimize(lower, upper);
+
+    assertFalse(ConditionOptimizer.isUnsatisfiable(optimized));
+    assertArrayEquals(new Object[] {lower, upper}, optimized);
+  }
+
+  @Test
+  void skipsTemplateParameters() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.EQUAL, "role", QueryTemplate.param("role")),
+            condition(ConditionType.EQUAL, "role", "A"));
+
+    assertFalse(ConditionOptimizer.isUnsatisfiable(optimized));
+    assertEquals(2, optimized.length);
+  }
+
+  @Test
+  void removesDuplicateConditions() {
+    Condition<Object>[] optimized =
+        optimize(
+            condition(ConditionType.EQUAL, "role", "A"),
+            condition(ConditionType.EQUAL, "role", "A"));
+
+    assertEquals(1, optimized.length);
+  }
+
+  @Test
+  void mergesOrEqualitiesIntoInWithConvertedValues() {
+    Condition<Object>[] optimized =
+        optimize(
+            or(
+                condition(ConditionType.EQUAL, "age", "1"),
+                condition(ConditionType.EQUAL, "age", "01"),
+                condition(ConditionType.IN, "age", 2, "3")));
+
+    assertEquals(1, optimized.length);
+    TypedCondition<?> in = assertInstanceOf(TypedCondition.class, optimized[0]);
+    assertEquals(ConditionType.IN, in.type());
+    assertArrayEquals(new Object[] {1, 2, 3}, in.values());
+  }
+
+  @Test
+  void flattensNestedGroups() {
+    TypedCondition<Object> role = condition(ConditionType.EQUAL, "role", "A");
+    TypedCondition<Object> age = condition(ConditionType.LESS_THAN, "age", 30);
+
+    Condition<Object>[] optimized = optimize(and(role), and(and(age)));
+
+    assertArrayEquals(new Object[] {role, age}, optimized);
+  }
+
+  @Test
+  void removesDuplicatesFromFlattenedGroups() {
+    TypedCondition<Object> name = condition(ConditionType.LIKE, "name", "kim");
+    TypedCondition<Object> role = condition(ConditionType.NOT_EQUAL, "role", "A");
+
+    Condition<Object>[] optimized =
+        optimize(name, and(condition(ConditionType.LIKE, "name", "kim"), role), and(and(role)));
+
+    assertArrayEquals(new Object[] {name, role}, optimized);
+  }
+
+  @Test
+  void orOfContradictionsIsUnsatisfiable() {
+    Condition<Object>[] optimized =
+        optimize(
+            or(
+                and(
+                    condition(ConditionType.EQUAL, "role", "A"),
+                    condition(ConditionType.EQUAL, "role", "B")),
+                and(
+                    condition(ConditionType.IS_NULL, "age"),
+                    condition(ConditionType.IS_NOT_NULL, "age"))));
+
+    assertTrue(ConditionOptimizer.isUnsatisfiable(optimized));
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  private Condition<Object>[] optimize(Condition<Object>... conditions) {
+    return ConditionOptimizer.optimize(conditions, factory);
+  }
+
+  private static TypedCondition<Object> condition(
+      ConditionType type, String property, Object... values) {
+    return new TypedCondition<>(type, property, values, (root, query, builder, context) -> null);
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  private static GroupCondition<Object> or(Condition<Object>... children) {
+    return new GroupCondition<>(true, children);
+  }
+
+  @SafeVarargs
+  @SuppressWarnings("varargs")
+  private static GroupCondition<Object> and(Condition<Object>... children) {
+    return new GroupCondition<>(false, children);
+  }
+
+  /** 타입 정보가 있는 속성만 변환하는 생성기 (빌더의 ConditionFactory 대용). */
+  private static final class TestFactory implements ConditionOptimizer.Factory<Object> {
+    @Override
+    public TypedCondition<Object> comparison(ConditionType type, String property, Object value) {
+      return condition(type, property, value);
+    }
+
+    @Override
+    public TypedCondition<Object> between(String property, Object start, Object end) {
+      return condition(ConditionType.BETWEEN, property, start, end);
+    }
+
+    @Override
+    public TypedCondition<Object> in(String property, Object[] values) {
+      return condition(ConditionType.IN, property, values);
+    }
+
+    @Override
+    public Object convert(String property, Object value) {
+      Class<?> type = TYPES.get(property);
+      return type != null ? ConversionRegistry.defaults().convert(value, type) : null;
+    }
+  }
+}
@@ -0,0 +1,200 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListDialect;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListOptions;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class InListPredicatesTest {
+
+  private final CriteriaBuilder builder = recordingBuilder();
+  private final Expression<?> expression = proxy(Expression.class, (p, m, a) -> null);
+
+  @Test
+  void paddedSizeIsNextPowerOfTwo() {
+    assertEquals(0, InListPredicates.paddedSize(0));
+    assertEquals(1, InListPredicates.paddedSize(1));
+    assertEquals(2, InListPredicates.paddedSize(2));
+    assertEquals(4, InListPredicates.paddedSize(3));
+    assertEquals(4, InListPredicates.paddedSize(4));
+    assertEquals(8, InListPredicates.paddedSize(5));
+    assertEquals(1024, InListPredicates.paddedSize(1000));
+    assertEquals(1024, InListPredicates.paddedSize(1024));
+    assertEquals(2048, InListPredicates.paddedSize(1025));
+  }
+
+  @Test
+  void removesDuplicatesKeepingOrder() {
+    assertEquals("in(3,1,2)", in(List.of(3, 1, 3, 2, 1), InListOptions.defaults()));
+  }
+
+  @Test
+  void padsWithLastValue() {
+    InListOptions options = InListOptions.defaults().withPadding(true);
+
+    assertEquals("in(1)", in(values(1), options));
+    assertEquals("in(1,2)", in(values(2), options));
+    assertEquals("in(1,2,3,3)", in(values(3), options));
+    assertEquals("in(1,2,3,4,5,5,5,5)", in(values(5), options));
+  }
+
+  @Test
+  void doesNotChunkAtExactChunkSize() {
+    InListOptions options = InListOptions.defaults().withChunkSize(3);
+
+    assertEquals("in(1,2,3)", in(values(3), options));
+    assertEquals("or(in(1,2,3),in(4))", in(values(4), options));
+    assertEquals("or(in(1,2,3),in(4,5,6),in(7))", in(values(7), options));
+  }
+
+  @Test
+  void padsChunksWithoutExceedingChunkSize() {
+    InListOptions options = InListOptions.defaults().withPadding(true).withChunkSize(6);
+
+    assertEquals("in(1,2,3,4,5,5)", in(values(5), options));
+    assertEquals("in(1,2,3,4,5,6)", in(values(6), options));
+    assertEquals("or(in(1,2,3,4,5,6),in(7,8,9,9))", in(values(9), options));
+    assertEquals("or(in(1,2,3,4,5,6),in(7,8,9,10,11,11))", in(values(11), options));
+  }
+
+  @Test
+  void usesArrayParameterFromThreshold() {
+    InListDialect dialect =
+        (builder, expression, values) -> predicate("array" + Arrays.toString(values));
+    InListOptions options =
+        InListOptions.defaults().withChunkSize(2).withArrayParameter(dialect, 3);
+
+    assertEquals("in(1,2)", in(List.of(1, 2, 1, 2), options));
+    assertEquals("array[1, 2, 3]", in(values(3), options));
+  }
+
+  @Test
+  void convertsValuesToPathTypeForArrayParameter() {
+    InListDialect dialect =
+        (builder, expression, values) ->
+            predicate(
+                "array"
+                    + Arrays.stream(values)
+                        .map(value -> value.getClass().getSimpleName() + ":" + value)
+                        .toList());
+    InListOptions options = InListOptions.defaults().withArrayParameter(dialect, 1);
+    Expression<?> longPath = typedExpression(Long.class);
+
+    assertEquals(
+        "array[Long:1, Long:2]",
+        InListPredicates.in(builder, longPath, List.of(1, "2", 1L), options).toString());
+  }
+
+  @Test
+  void fallsBackToInListWhenArrayValuesCannotBeConverted() {
+    InListDialect dialect = (builder, expression, values) -> predicate("array");
+    InListOptions options = InListOptions.defaults().withArrayParameter(dialect, 1);
+
+    assertEquals(
+        "in(1,abc)",
+        InListPredicates.in(builder, typedExpression(Long.class), List.of(1, "abc"), options)
+            .toString());
+  }
+
+  @Test
+  void arrayContainsRejectsValuesOfOtherType() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            InListDialect.arrayContains()
+                .in(builder, typedExpression(Long.class), new Object[] {1L, 2}));
+  }
+
+  @Test
+  void notInNegatesChunkedIn() {
+    InListOptions options = InListOptions.defaults().withChunkSize(2);
+
+    Predicate notIn = InListPredicates.notIn(builder, expression, values(3), options);
+
+    assertEquals("not(or(in(1,2),in(3)))", notIn.toString());
+  }
+
+  @Test
+  void rejectsInvalidOptions() {
+    InListDialect dialect = (builder, expression, values) -> null;
+
+    assertThrows(
+        IllegalArgumentException.class, () -> InListOptions.defaults().withChunkSize(-1));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> InListOptions.defaults().withArrayParameter(dialect, 0));
+  }
+
+  private String in(List<Integer> values, InListOptions options) {
+    return InListPredicates.in(builder, expression, values, options).toString();
+  }
+
+  private static List<Integer> values(int count) {
+    return IntStream.rangeClosed(1, count).boxed().toList();
+  }
+
+  private static Expression<?> typedExpression(Class<?> type) {
+    return proxy(
+        Expression.class, (p, m, a) -> m.getName().equals("getJavaType") ? type : null);
+  }
+
+  /** in / or / not 호출을 문자열 구조로 기록하는 CriteriaBuilder. */
+  private static CriteriaBuilder recordingBuilder() {
+    return proxy(
+        CriteriaBuilder.class,
+        (proxy, method, args) ->
+            switch (method.getName()) {
+              case "in" -> inClause();
+              case "or" -> predicate("or(" + join((Object[]) args[0]) + ")");
+              case "not" -> predicate("not(" + args[0] + ")");
+              default -> throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  private static CriteriaBuilder.In<?> inClause() {
+    List<Object> values = new ArrayList<>();
+    return proxy(
+        CriteriaBuilder.In.class,
+        (proxy, method, args) ->
+            switch (method.getName()) {
+              case "value" -> {
+                values.add(args[0]);
+                yield proxy;
+              }
+              case "toString" -> "in(" + join(values.toArray()) + ")";
+              default -> throw new UnsupportedOperationException(method.getName());
+            });
+  }
+
+  private static Predicate predicate(String text) {
+    return proxy(
+        Predicate.class,
+        (proxy, method, args) -> {
+          if (method.getName().equals("toString")) {
+            return text;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  private static String join(Object[] values) {
+    return Arrays.stream(values).map(String::valueOf).collect(Collectors.joining(","));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P> P proxy(Class<?> type, InvocationHandler handler) {
+    return (P) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+}
@@ -0,0 +1,168 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  @Test
+  void roundTripsAllSupportedTypes() {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("name", "홍길동, a:b");
+    values.put("id", 42L);
+    values.put("age", 7);
+    values.put("rank", (short) 3);
+    values.put("score", 1.5d);
+    values.put("ratio", 0.25f);
+    values.put("amount", new BigDecimal("12345.6700"));
+    values.put("big", new BigInteger("123456789012345678901234567890"));
+    values.put("active", true);
+    values.put("uuid", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+    values.put("birth", LocalDate.of(2024, 2, 29));
+    values.put("createdAt", LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6_000));
+    values.put("zoned", ZonedDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(9)));
+    values.put("offset", OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.ofHours(-5)));
+    values.put("instant", Instant.parse("2024-01-02T03:04:05.123Z"));
+
+    KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(values).encode());
+
+    assertEquals(values, decoded.getValues());
+    assertEquals(List.copyOf(values.keySet()), List.copyOf(decoded.getValues().keySet()));
+  }
+
+  @Test
+  void decodesEnumAsName() {
+    KeysetCursor cursor = KeysetCursor.of(Map.of("unit", TimeUnit.SECONDS));
+
+    assertEquals(Map.of("unit", "SECONDS"), KeysetCursor.decode(cursor.encode()).getValues());
+  }
+
+  @Test
+  void encodesUrlSafeText() {
+    String encoded = KeysetCursor.of(Map.of("name", "??>>~~")).encode();
+
+    assertFalse(encoded.contains("+"));
+    assertFalse(encoded.contains("/"));
+    assertFalse(encoded.contains("="));
+  }
+
+  @Test
+  void ignoresSurroundingWhitespace() {
+    String encoded = KeysetCursor.of(Map.of("id", 1L)).encode();
+
+    assertEquals(Map.of("id", 1L), KeysetCursor.decode("  " + encoded + "\n").getValues());
+  }
+
+  @Test
+  void rejectsEmptyOrNullValues() {
+    Map<String, Object> withNull = new LinkedHashMap<>();
+    withNull.put("id", null);
+
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of(Map.of()));
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of(null));
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.of(withNull));
+  }
+
+  @Test
+  void rejectsUnsupportedValueTypeOnEncode() {
+    KeysetCursor cursor = KeysetCursor.of(Map.of("tags", List.of("a")));
+
+    assertThrows(IllegalArgumentException.class, cursor::encode);
+  }
+
+  @Test
+  void rejectsBlankCursor() {
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(null));
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(" "));
+  }
+
+  @Test
+  void rejectsMalformedCursors() {
+    String id = encode("1");
+    for (String text :
+        new String[] {
+          "k1",
+          "k2,id:L:" + id,
+          "k1,id:L",
+          "k1,id:X:" + id,
+          "k1,id:L:" + encode("abc"),
+          "k1,id:d:" + encode("2024-13-01"),
+          "k1,id:L:%%%"
+        }) {
+      IllegalArgumentException e =
+          assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(encode(text)));
+      assertTrue(e.getMessage().startsWith("Invalid keyset cursor"), text);
+    }
+  }
+
+  @Test
+  void rejectsNonBase64Cursor() {
+    assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+  }
+
+  @Test
+  void readsNestedProperties() {
+    Member member = new Member("kim", new Team("dev"), true);
+
+    assertEquals("kim", KeysetCursor.readProperty(member, "name"));
+    assertEquals("dev", KeysetCursor.readProperty(member, "team.name"));
+    assertEquals(true, KeysetCursor.readProperty(member, "active"));
+    assertEquals(null, KeysetCursor.readProperty(new Member("lee", null, false), "team.name"));
+    assertThrows(
+        IllegalArgumentException.class, () -> KeysetCursor.readProperty(member, "missing"));
+  }
+
+  private static String encode(String text) {
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** getter 와 필드 접근을 모두 확인하기 위한 엔티티 대용 (team 은 getter 없음). */
+  static class Member {
+    private final String name;
+    private final Team team;
+    private final boolean active;
+
+    Member(String name, Team team, boolean active) {
+      this.name = name;
+      this.team = team;
+      this.active = active;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+  }
+
+  static class Team {
+    private final String name;
+
+    Team(String name) {
+      this.name = name;
+    }
+  }
+}
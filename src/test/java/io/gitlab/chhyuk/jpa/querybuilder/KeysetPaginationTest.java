@@ -0,0 +1,101 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+class KeysetPaginationTest {
+
+  private final TestDatabase database = TestDatabase.shared();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+    database.clearStatements();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void seeksAfterCursorInOrder() {
+    List<Member> first = byAgeDesc().seekAfter(null).executor().list();
+    List<Member> second = byAgeDesc().seekAfter(cursorOf(last(first))).executor().list();
+    List<Member> third = byAgeDesc().seekAfter(cursorOf(last(second))).executor().list();
+
+    assertEquals(List.of(6L, 4L), ids(first));
+    assertEquals(List.of(3L, 1L), ids(second));
+    assertEquals(List.of(5L, 2L), ids(third));
+  }
+
+  @Test
+  void breaksTiesWithId() {
+    List<Member> first = byRole().seekAfter(null).executor().list();
+    String cursor = byRole().cursorOf(last(first));
+    List<Member> second = byRole().seekAfter(cursor).executor().list();
+    List<Member> third = byRole().seekAfter(byRole().cursorOf(last(second))).executor().list();
+
+    assertEquals(List.of(1L, 6L), ids(first));
+    assertEquals(List.of(4L, 2L), ids(second));
+    assertEquals(List.of(3L, 5L), ids(third));
+  }
+
+  @Test
+  void seeksBeforeCursorInReverseOrder() {
+    String cursor = cursorOf(entityManager.find(Member.class, 3L));
+
+    List<Member> previous = byAgeDesc().seekBefore(cursor).executor().list();
+
+    assertEquals(List.of(4L, 6L), ids(previous));
+  }
+
+  @Test
+  void ignoresOffsetWithCursor() {
+    String cursor = cursorOf(entityManager.find(Member.class, 4L));
+
+    List<Member> members = byAgeDesc().offset(10).seekAfter(cursor).executor().list();
+
+    assertEquals(List.of(3L, 1L), ids(members));
+    String sql = database.statements().get(database.statements().size() - 1);
+    assertFalse(sql.contains("offset"), sql);
+  }
+
+  @Test
+  void rejectsCursorOfOtherOrderOnBuild() {
+    String cursor = byRole().cursorOf(entityManager.find(Member.class, 1L));
+
+    assertThrows(IllegalArgumentException.class, () -> byAgeDesc().seekAfter(cursor).build());
+    assertThrows(IllegalArgumentException.class, () -> byAgeDesc().seekAfter(cursor).freeze());
+  }
+
+  private Builder<Member> byAgeDesc() {
+    return Builder.create(Member.class, entityManager).orderBy("age", Direction.DESC).limit(2);
+  }
+
+  private Builder<Member> byRole() {
+    return Builder.create(Member.class, entityManager).orderBy("role", Direction.ASC).limit(2);
+  }
+
+  private String cursorOf(Member member) {
+    return byAgeDesc().seekAfter(null).cursorOf(member);
+  }
+
+  private static Member last(List<Member> members) {
+    return members.get(members.size() - 1);
+  }
+
+  private static List<Long> ids(List<Member> members) {
+    return members.stream().map(Member::getId).toList();
+  }
+}
@@ -0,0 +1,70 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/** 테스트용 1:N 자식 엔티티. */
+@Entity
+@Table(name = "test_member")
+public class Member {
+  @Id private Long id;
+
+  private String name;
+
+  private String role;
+
+  private Integer age;
+
+  @Enumerated(EnumType.STRING)
+  private Status status;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "team_id")
+  private Team team;
+
+  protected Member() {}
+
+  Member(Long id, String name, String role, Integer age, Status status, Team team) {
+    this.id = id;
+    this.name = name;
+    this.role = role;
+    this.age = age;
+    this.status = status;
+    this.team = team;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public Integer getAge() {
+    return age;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public Team getTeam() {
+    return team;
+  }
+
+  public enum Status {
+    ACTIVE,
+    INACTIVE
+  }
+}
@@ -0,0 +1,68 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ProjectionMapperTest {
+
+  private static final List<String> SELECTIONS = List.of("name", "age", "team.name");
+
+  record MemberRow(String teamName, String name) {}
+
+  interface MemberView {
+    String getName();
+
+    Integer getAge();
+
+    String teamName();
+
+    default String label() {
+      return getName() + "@" + teamName();
+    }
+  }
+
+  @Test
+  void mapsRecordComponentsByName() {
+    MemberRow row = ProjectionMapper.of(MemberRow.class, SELECTIONS).map(values("kim", 30, "dev"));
+
+    assertEquals(new MemberRow("dev", "kim"), row);
+  }
+
+  @Test
+  void mapsInterfaceAccessors() {
+    ProjectionMapper<MemberView> mapper = ProjectionMapper.of(MemberView.class, SELECTIONS);
+    MemberView view = mapper.map(values("kim", 30, "dev"));
+
+    assertEquals("kim", view.getName());
+    assertEquals(30, view.getAge());
+    assertEquals("dev", view.teamName());
+    assertEquals("kim@dev", view.label());
+    assertEquals(view, mapper.map(values("kim", 30, "dev")));
+    assertNotEquals(view, mapper.map(values("lee", 25, "dev")));
+  }
+
+  @Test
+  void cachesMapperPerTypeAndSelections() {
+    assertSame(
+        ProjectionMapper.of(MemberRow.class, SELECTIONS),
+        ProjectionMapper.of(MemberRow.class, List.of("name", "age", "team.name")));
+  }
+
+  @Test
+  void rejectsUnmappedComponentAndUnsupportedType() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ProjectionMapper.of(MemberRow.class, List.of("name")));
+    assertThrows(
+        IllegalArgumentException.class, () -> ProjectionMapper.of(Member.class, SELECTIONS));
+  }
+
+  private static Object[] values(Object... values) {
+    return values;
+  }
+}
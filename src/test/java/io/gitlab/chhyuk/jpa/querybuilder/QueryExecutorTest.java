@@ -0,0 +1,336 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.gitlab.chhyuk.jpa.querybuilder.QueryExecutor.BoundedCount;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import io.gitlab.chhyuk.jpa.querybuilder.function.HibernateWindowCountDialect;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.QueryHints;
+import io.gitlab.chhyuk.jpa.querybuilder.function.WindowCountDialect;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.JoinType;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort.Direction;
+
+class QueryExecutorTest {
+  private static final WindowCountDialect WINDOW = new HibernateWindowCountDialect();
+
+  record MemberRow(String name, String teamName) {}
+
+  private final TestDatabase database = TestDatabase.shared();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+    database.clearStatements();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void sliceFetchesOneMoreRowWithoutCount() {
+    Slice<Member> first = byAgeDesc().page(0, 2).executor().slice();
+    Slice<Member> last = byAgeDesc().page(2, 2).executor().slice();
+
+    assertEquals(List.of(6L, 4L), ids(first.getContent()));
+    assertTrue(first.hasNext());
+    assertEquals(List.of(5L, 2L), ids(last.getContent()));
+    assertFalse(last.hasNext());
+    assertEquals(2, database.statements().size());
+    assertFalse(database.statements().stream().anyMatch(sql -> sql.contains("count(")));
+  }
+
+  @Test
+  void sliceAddsIdTieBreaker() {
+    Slice<Member> first = byRole().page(0, 3).executor().slice();
+    Slice<Member> second = byRole().page(1, 3).executor().slice();
+
+    assertEquals(List.of(1L, 6L, 4L), ids(first.getContent()));
+    assertEquals(List.of(2L, 3L, 5L), ids(second.getContent()));
+    assertTrue(lastStatement().matches(".*order by \\w+\\.role,\\w+\\.id.*"), lastStatement());
+  }
+
+  @Test
+  void windowCountReadsTotalWithContent() {
+    Page<Member> page =
+        active().orderBy("id", Direction.ASC).page(0, 2).executor().windowCount(WINDOW).page();
+
+    assertEquals(List.of(1L, 2L), ids(page.getContent()));
+    assertEquals(4, page.getTotalElements());
+    assertEquals(1, database.statements().size());
+    assertTrue(lastStatement().contains("over"), lastStatement());
+  }
+
+  @Test
+  void windowCountFallsBackToCountQueryForDistinct() {
+    Page<Team> page =
+        Builder.create(Team.class, entityManager)
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("role", "MEMBER")), JoinType.INNER)
+            .orderBy("id", Direction.ASC)
+            .page(0, 1)
+            .executor()
+            .windowCount(WINDOW)
+            .page();
+
+    assertEquals(List.of(1L), page.getContent().stream().map(Team::getId).toList());
+    assertEquals(2, page.getTotalElements());
+    assertEquals(2, database.statements().size());
+    assertTrue(lastStatement().contains("count(distinct"), lastStatement());
+  }
+
+  @Test
+  void windowCountRunsCountQueryForEmptyPage() {
+    Page<Member> page =
+        active().orderBy("id", Direction.ASC).page(5, 2).executor().windowCount(WINDOW).page();
+
+    assertTrue(page.getContent().isEmpty());
+    assertEquals(4, page.getTotalElements());
+  }
+
+  @Test
+  void boundedCountStopsAtMax() {
+    BoundedCount exceeded = active().executor().count(3);
+    BoundedCount exact = active().executor().count(4);
+
+    assertEquals(new BoundedCount(3, true), exceeded);
+    assertEquals("3+", exceeded.toString());
+    assertEquals(new BoundedCount(4, false), exact);
+    assertTrue(exact.isExact());
+    assertEquals("4", exact.toString());
+    assertFalse(lastStatement().contains("count("), lastStatement());
+  }
+
+  @Test
+  void boundedCountCountsRowsOfDistinctQuery() {
+    BoundedCount count =
+        Builder.create(Team.class, entityManager)
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("role", "MEMBER")), JoinType.INNER)
+            .orderBy("name", Direction.ASC)
+            .executor()
+            .count(10);
+
+    assertEquals(new BoundedCount(2, false), count);
+    assertFalse(lastStatement().contains("order by"), lastStatement());
+  }
+
+  @Test
+  void boundedCountRejectsInvalidMax() {
+    assertThrows(IllegalArgumentException.class, () -> active().executor().count(0));
+    assertThrows(
+        IllegalArgumentException.class, () -> active().executor().count(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void streamClearsPersistenceContextEveryRows() {
+    try (Stream<Member> stream = byId().executor().clearEvery(2).stream()) {
+      Iterator<Member> members = stream.iterator();
+      Member first = members.next();
+      Member second = members.next();
+
+      assertTrue(entityManager.contains(first));
+      assertTrue(entityManager.contains(second));
+
+      Member third = members.next();
+
+      assertFalse(entityManager.contains(first));
+      assertFalse(entityManager.contains(second));
+      assertTrue(entityManager.contains(third));
+      assertEquals(3L, third.getId());
+    }
+  }
+
+  @Test
+  void streamLoadsReadOnlyEntities() {
+    Session session = entityManager.unwrap(Session.class);
+    try (Stream<Member> stream = byId().limit(2).executor().stream()) {
+      List<Member> members = stream.toList();
+
+      assertEquals(List.of(1L, 2L), ids(members));
+      assertTrue(members.stream().allMatch(session::isReadOnly));
+    }
+  }
+
+  @Test
+  void idsFirstLoadsEntitiesInIdOrder() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("role", "MEMBER")), JoinType.INNER)
+            .orderBy("name", Direction.DESC)
+            .limit(10)
+            .executor()
+            .idsFirst()
+            .list();
+
+    assertEquals(List.of(2L, 1L), teams.stream().map(Team::getId).toList());
+    List<String> statements = database.statements();
+    assertEquals(2, statements.size());
+    assertTrue(statements.get(0).contains("distinct"), statements.get(0));
+    assertFalse(statements.get(1).contains("distinct"), statements.get(1));
+  }
+
+  @Test
+  void idsFirstFallsBackWhenOrderCrossesCollection() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .isNotNull("members.age")
+            .orderBy("members.age", Direction.DESC)
+            .limit(2)
+            .executor()
+            .idsFirst()
+            .list();
+
+    assertEquals(List.of(2L, 1L), teams.stream().map(Team::getId).toList());
+    assertEquals(1, database.statements().size());
+  }
+
+  @Test
+  void deferredJoinScansOffsetOverIds() {
+    List<Member> members = byAgeDesc().page(2, 2).executor().deferredJoinOffset(3).list();
+
+    assertEquals(List.of(5L, 2L), ids(members));
+    List<String> statements = database.statements();
+    assertEquals(2, statements.size());
+    assertFalse(statements.get(0).contains(".name"), statements.get(0));
+    assertTrue(statements.get(1).contains(".name"), statements.get(1));
+  }
+
+  @Test
+  void deferredJoinIsSkippedBelowOffsetOrWithoutLimit() {
+    List<Member> shallow = byAgeDesc().page(2, 2).executor().deferredJoinOffset(5).list();
+    List<Member> unlimited = byAgeDesc().offset(4).executor().deferredJoinOffset(3).list();
+
+    assertEquals(List.of(5L, 2L), ids(shallow));
+    assertEquals(List.of(5L, 2L), ids(unlimited));
+    assertEquals(2, database.statements().size());
+  }
+
+  @Test
+  void listsProjectionWithoutLoadingEntities() {
+    List<MemberRow> rows =
+        Builder.create(Member.class, entityManager)
+            .equal("team.name", "ops")
+            .select("name", "team.name")
+            .orderBy("id", Direction.ASC)
+            .executor()
+            .list(MemberRow.class);
+
+    assertEquals(List.of(new MemberRow("choi", "ops"), new MemberRow("jung", "ops")), rows);
+    assertFalse(lastStatement().contains(".age"), lastStatement());
+    assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+  }
+
+  @Test
+  void fetchLoadsAssociationInSameQuery() {
+    List<Member> members = byId().equal("role", "MEMBER").fetch("team").executor().list();
+
+    assertEquals(List.of(2L, 3L, 5L), ids(members));
+    PersistenceUnitUtil util = database.getFactory().getPersistenceUnitUtil();
+    assertTrue(members.stream().allMatch(member -> util.isLoaded(member, "team")));
+    assertEquals("ops", members.get(2).getTeam().getName());
+    assertEquals(1, database.statements().size());
+  }
+
+  @Test
+  void collectionFetchWithLimitLoadsIdsFirst() {
+    Page<Team> page =
+        Builder.create(Team.class, entityManager)
+            .fetch("members")
+            .orderBy("id", Direction.ASC)
+            .page(0, 2)
+            .executor()
+            .windowCount(WINDOW)
+            .page();
+
+    assertEquals(List.of(1L, 2L), page.getContent().stream().map(Team::getId).toList());
+    assertEquals(3, page.getTotalElements());
+    assertEquals(3, page.getContent().get(0).getMembers().size());
+    PersistenceUnitUtil util = database.getFactory().getPersistenceUnitUtil();
+    assertTrue(page.getContent().stream().allMatch(team -> util.isLoaded(team, "members")));
+    List<String> statements = database.statements();
+    assertEquals(3, statements.size());
+    assertFalse(statements.get(0).contains(" join "), statements.get(0));
+    assertTrue(statements.get(1).contains(" join "), statements.get(1));
+    assertTrue(statements.get(2).contains("count("), statements.get(2));
+  }
+
+  @Test
+  void executorHintsOverrideBuilderAndDefaults() {
+    QueryHints.setDefaults(
+        QueryHints.empty().withTimeout(Duration.ofSeconds(10)).withFetchSize(100));
+    try {
+      TypedQuery<Member> query =
+          byId()
+              .fetchSize(200)
+              .flushMode(FlushModeType.COMMIT)
+              .executor()
+              .hint(QueryHints.TIMEOUT, 3000)
+              .createQuery();
+
+      assertEquals(3000, query.getHints().get(QueryHints.TIMEOUT));
+      assertEquals(200, query.getHints().get(QueryHints.FETCH_SIZE));
+      assertEquals(FlushModeType.COMMIT, query.getFlushMode());
+    } finally {
+      QueryHints.setDefaults(QueryHints.empty());
+    }
+  }
+
+  @Test
+  void defaultHintsApplyWithoutBuilderHints() {
+    QueryHints.setDefaults(QueryHints.empty().withTimeout(Duration.ofMillis(1500)));
+    try {
+      TypedQuery<Member> query = byId().executor().createQuery();
+
+      assertEquals(2000, query.getHints().get(QueryHints.TIMEOUT));
+    } finally {
+      QueryHints.setDefaults(QueryHints.empty());
+    }
+  }
+
+  private Builder<Member> byAgeDesc() {
+    return Builder.create(Member.class, entityManager).orderBy("age", Direction.DESC);
+  }
+
+  private Builder<Member> active() {
+    return Builder.create(Member.class, entityManager).equal("status", "ACTIVE");
+  }
+
+  private Builder<Member> byId() {
+    return Builder.create(Member.class, entityManager).orderBy("id", Direction.ASC);
+  }
+
+  private Builder<Member> byRole() {
+    return Builder.create(Member.class, entityManager).orderBy("role", Direction.ASC);
+  }
+
+  private String lastStatement() {
+    List<String> statements = database.statements();
+    return statements.get(statements.size() - 1);
+  }
+
+  private static List<Long> ids(List<Member> members) {
+    return members.stream().map(Member::getId).toList();
+  }
+}
@@ -0,0 +1,85 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.MicrometerQueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.JoinType;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryMetricsTest {
+
+  private final TestDatabase database = TestDatabase.shared();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void recordsConditionsAndSkippedConditions() {
+    Builder.create(Member.class, entityManager)
+        .metrics(new MicrometerQueryMetrics(registry))
+        .equal("role", "MEMBER")
+        .equal("name", null)
+        .like("name", " ")
+        .executor()
+        .list();
+
+    assertEquals(1, counter("jpa.spec.conditions", "type", "EQUAL"));
+    assertEquals(1, counter("jpa.spec.conditions.skipped", "type", "EQUAL"));
+    assertEquals(1, counter("jpa.spec.conditions.skipped", "type", "LIKE"));
+  }
+
+  @Test
+  void recordsBuildTimePerQueryKind() {
+    var executor =
+        Builder.create(Member.class, entityManager)
+            .metrics(new MicrometerQueryMetrics(registry))
+            .equal("role", "MEMBER")
+            .executor();
+
+    executor.list();
+    executor.count();
+
+    assertEquals(1, timer("select"));
+    assertEquals(1, timer("count"));
+  }
+
+  @Test
+  void recordsInvalidPropertyOfJoinCondition() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .metrics(new MicrometerQueryMetrics(registry))
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("missing", 1)), JoinType.INNER)
+            .executor()
+            .list();
+
+    assertEquals(2, teams.size());
+    assertEquals(1, counter("jpa.spec.fallbacks", "reason", "invalid_property"));
+  }
+
+  private double counter(String name, String tag, String value) {
+    return registry.get(name).tag(tag, value).counters().stream()
+        .mapToDouble(counter -> counter.count())
+        .sum();
+  }
+
+  private long timer(String query) {
+    return registry.get("jpa.spec.build").tag("query", query).timer().count();
+  }
+}
@@ -0,0 +1,134 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+class QueryTemplateTest {
+
+  private final TestDatabase database = TestDatabase.shared();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void compilesOnceAndReusesQuery() {
+    QueryTemplate<Member> template =
+        Builder.create(Member.class, entityManager)
+            .equal("role", QueryTemplate.param("role"))
+            .greaterEqual("age", QueryTemplate.param("minAge"))
+            .orderBy("id", Direction.ASC)
+            .template();
+
+    List<Member> members =
+        template
+            .createQuery(entityManager, Map.of("role", "MEMBER", "minAge", 26))
+            .getResultList();
+    List<Member> admins =
+        template
+            .createQuery(entityManager, Map.of("role", "ADMIN", "minAge", "40"))
+            .getResultList();
+    try (EntityManager other = database.createEntityManager()) {
+      template.createQuery(other, Map.of("role", "GUEST", "minAge", 0)).getResultList();
+    }
+
+    assertEquals(List.of(3L, 5L), ids(members));
+    assertEquals(List.of(6L), ids(admins));
+    assertEquals(1, template.getCompileCount());
+    assertEquals(2, template.getReuseCount());
+    assertEquals(Set.of("role", "minAge"), template.getParameterNames());
+  }
+
+  @Test
+  void rejectsUnboundParameter() {
+    QueryTemplate<Member> template =
+        Builder.create(Member.class, entityManager)
+            .equal("role", QueryTemplate.param("role"))
+            .template();
+
+    assertThrows(
+        IllegalArgumentException.class, () -> template.createQuery(entityManager, Map.of()));
+  }
+
+  @Test
+  void appliesLimitOffsetAndTieBreaker() {
+    QueryTemplate<Member> template =
+        Builder.create(Member.class, entityManager)
+            .equal("role", QueryTemplate.param("role"))
+            .orderBy("role", Direction.ASC)
+            .limit(2)
+            .offset(1)
+            .template();
+
+    List<Member> members =
+        template.createQuery(entityManager, Map.of("role", "MEMBER")).getResultList();
+
+    assertEquals(List.of(3L, 5L), ids(members));
+  }
+
+  @Test
+  void appliesFetchPathsAsLoadGraph() {
+    QueryTemplate<Member> template =
+        Builder.create(Member.class, entityManager)
+            .equal("role", QueryTemplate.param("role"))
+            .fetch("team")
+            .template();
+
+    List<Member> members =
+        template.createQuery(entityManager, Map.of("role", "ADMIN")).getResultList();
+
+    PersistenceUnitUtil util = database.getFactory().getPersistenceUnitUtil();
+    assertEquals(2, members.size());
+    assertTrue(members.stream().allMatch(member -> util.isLoaded(member, "team")));
+  }
+
+  @Test
+  void appliesKeysetCursor() {
+    Builder<Member> builder =
+        Builder.create(Member.class, entityManager)
+            .equal("status", QueryTemplate.param("status"))
+            .limit(2);
+    String cursor = builder.cursorOf(entityManager.find(Member.class, 2L));
+
+    QueryTemplate<Member> template = builder.seekAfter(cursor).template();
+    List<Member> members =
+        template.createQuery(entityManager, Map.of("status", "ACTIVE")).getResultList();
+
+    assertEquals(List.of(4L, 6L), ids(members));
+  }
+
+  @Test
+  void rejectsLimitWithCollectionFetch() {
+    QueryTemplate<Team> template =
+        Builder.create(Team.class, entityManager)
+            .equal("name", QueryTemplate.param("name"))
+            .fetch("members")
+            .limit(10)
+            .template();
+
+    assertThrows(IllegalStateException.class, () -> template.createQuery(entityManager));
+  }
+
+  private static List<Long> ids(List<Member> members) {
+    return members.stream().map(Member::getId).toList();
+  }
+}
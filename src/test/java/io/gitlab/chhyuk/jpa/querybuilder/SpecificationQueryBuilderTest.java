@@ -0,0 +1,268 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import io.gitlab.chhyuk.jpa.querybuilder.function.DateParser;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListDialect;
+import io.gitlab.chhyuk.jpa.querybuilder.function.InListOptions;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinCondition;
+import io.gitlab.chhyuk.jpa.querybuilder.function.JoinStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+class SpecificationQueryBuilderTest {
+
+  private final TestDatabase database = TestDatabase.shared();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+    database.clearStatements();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void emptyValuesProduceNoPredicate() {
+    Specification<Member> specification =
+        builder()
+            .equal("name", null)
+            .like("name", " ")
+            .in("role", List.of())
+            .greaterThan("age", null)
+            .dateRangeBetween("name", null, " ", DateParser.defaultParser())
+            .build();
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Member> query = criteriaBuilder.createQuery(Member.class);
+
+    assertNull(specification.toPredicate(query.from(Member.class), query, criteriaBuilder));
+  }
+
+  @Test
+  void emptyValuesLeaveNoTautologyInSql() {
+    List<Member> members =
+        builder()
+            .equal("name", null)
+            .equal("role", "MEMBER")
+            .like("name", "")
+            .lessThan("age", 30)
+            .equal("status", null)
+            .executor()
+            .list();
+
+    assertEquals(List.of(2L, 5L), ids(members));
+    assertFalse(lastStatement().contains("1=1"), lastStatement());
+  }
+
+  @Test
+  void orListSkipsSpecificationsWithoutPredicate() {
+    List<Member> members =
+        builder()
+            .or(
+                List.of(
+                    Builder.<Member>create().equal("x", null).build(),
+                    Builder.<Member>create().equal("name", "kim").build()))
+            .executor()
+            .list();
+
+    assertEquals(List.of(1L), ids(members));
+  }
+
+  @Test
+  void orListWithoutPredicatesIsSkipped() {
+    List<Member> members =
+        builder()
+            .or(
+                List.of(
+                    Builder.<Member>create().equal("x", null).build(),
+                    Builder.<Member>create().like("name", " ").build()))
+            .executor()
+            .list();
+
+    assertEquals(6, members.size());
+    assertFalse(lastStatement().contains(" where "), lastStatement());
+  }
+
+  @Test
+  void arrayParameterConvertsJoinConditionValues() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .inListOptions(
+                InListOptions.defaults().withArrayParameter(InListDialect.arrayContains(), 1))
+            .joinWithConditions(
+                "members", List.of(JoinCondition.in("id", List.of(1, 4))), JoinType.INNER)
+            .orderBy("id", Direction.ASC)
+            .executor()
+            .list();
+
+    assertEquals(List.of(1L, 2L), teams.stream().map(Team::getId).toList());
+    assertTrue(lastStatement().contains("array_contains"), lastStatement());
+  }
+
+  @Test
+  void arrayParameterConvertsEnumNames() {
+    List<Member> members =
+        builder()
+            .inListOptions(
+                InListOptions.defaults().withArrayParameter(InListDialect.arrayContains(), 1))
+            .in("status", List.of("INACTIVE"))
+            .orderBy("id", Direction.ASC)
+            .executor()
+            .list();
+
+    assertEquals(List.of(3L, 5L), ids(members));
+  }
+
+  @Test
+  void equalJoinIdUsesForeignKeyForSingularAssociation() {
+    List<Member> members =
+        builder().equalJoinId("team", "id", 1L).orderBy("id", Direction.ASC).executor().list();
+
+    assertEquals(List.of(1L, 2L, 3L), ids(members));
+    assertFalse(lastStatement().contains(" join "), lastStatement());
+  }
+
+  @Test
+  void equalJoinIdJoinsCollectionWithDistinct() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .equalJoinId("members", "id", 4L)
+            .executor()
+            .list();
+
+    assertEquals(List.of(2L), teams.stream().map(Team::getId).toList());
+    assertTrue(lastStatement().contains("distinct"), lastStatement());
+  }
+
+  @Test
+  void conditionsOnSameAssociationShareJoin() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("role", "MEMBER")), JoinType.LEFT)
+            .equalJoinId("members", "id", 5L)
+            .executor()
+            .list();
+
+    assertEquals(List.of(2L), teams.stream().map(Team::getId).toList());
+    assertEquals(1, count(lastStatement(), " join "), lastStatement());
+  }
+
+  @Test
+  void countQuerySkipsOrderBy() {
+    Specification<Member> specification =
+        builder().equal("role", "MEMBER").orderBy("age", Direction.DESC).build();
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+    Root<Member> root = query.from(Member.class);
+
+    query.where(specification.toPredicate(root, query, criteriaBuilder));
+
+    assertTrue(query.getOrderList().isEmpty());
+    assertFalse(query.isDistinct());
+  }
+
+  @Test
+  void countQueryCountsDistinctOnlyForCollectionJoin() {
+    long members =
+        builder()
+            .joinWithConditions("team", List.of(JoinCondition.equal("name", "dev")), JoinType.INNER)
+            .orderBy("age", Direction.DESC)
+            .executor()
+            .count();
+    String memberCount = lastStatement();
+    long teams =
+        Builder.create(Team.class, entityManager)
+            .joinWithConditions(
+                "members", List.of(JoinCondition.equal("role", "MEMBER")), JoinType.INNER)
+            .orderBy("name", Direction.ASC)
+            .executor()
+            .count();
+    String teamCount = lastStatement();
+
+    assertEquals(3, members);
+    assertFalse(memberCount.contains("distinct"), memberCount);
+    assertFalse(memberCount.contains("order by"), memberCount);
+    assertEquals(2, teams);
+    assertTrue(teamCount.contains("count(distinct"), teamCount);
+    assertFalse(teamCount.contains("order by"), teamCount);
+  }
+
+  @Test
+  void existsStrategyFiltersWithoutDistinct() {
+    List<Team> teams =
+        Builder.create(Team.class, entityManager)
+            .joinStrategy(JoinStrategy.EXISTS)
+            .joinWithConditions(
+                "members",
+                List.of(JoinCondition.equal("role", "MEMBER"), JoinCondition.lessThan("age", 30)),
+                JoinType.INNER)
+            .orderBy("id", Direction.ASC)
+            .executor()
+            .list();
+
+    assertEquals(List.of(1L, 2L), teams.stream().map(Team::getId).toList());
+    assertTrue(lastStatement().contains("exists"), lastStatement());
+    assertFalse(lastStatement().contains("distinct"), lastStatement());
+  }
+
+  @Test
+  void existsStrategyMatchesJoinStrategy() {
+    for (String role : List.of("ADMIN", "GUEST", "NONE")) {
+      List<JoinCondition> conditions = List.of(JoinCondition.equal("role", role));
+
+      assertEquals(
+          teamIds(JoinStrategy.JOIN, conditions), teamIds(JoinStrategy.EXISTS, conditions), role);
+    }
+  }
+
+  private Builder<Member> builder() {
+    return Builder.create(Member.class, entityManager);
+  }
+
+  private List<Long> teamIds(JoinStrategy strategy, List<JoinCondition> conditions) {
+    return Builder.create(Team.class, entityManager)
+        .joinStrategy(strategy)
+        .joinWithConditions("members", conditions, JoinType.INNER)
+        .orderBy("id", Direction.ASC)
+        .executor()
+        .list()
+        .stream()
+        .map(Team::getId)
+        .toList();
+  }
+
+  private String lastStatement() {
+    List<String> statements = database.statements();
+    return statements.get(statements.size() - 1);
+  }
+
+  private static int count(String text, String token) {
+    int count = 0;
+    for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  private static List<Long> ids(List<Member> members) {
+    return members.stream().map(Member::getId).toList();
+  }
+}
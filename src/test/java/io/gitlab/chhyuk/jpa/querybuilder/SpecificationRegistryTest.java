@@ -0,0 +1,95 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.Builder;
+import io.gitlab.chhyuk.jpa.querybuilder.SpecificationQueryBuilder.CompiledSpecification;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+class SpecificationRegistryTest {
+
+  private final TestDatabase database = TestDatabase.shared();
+  private final SpecificationRegistry registry = new SpecificationRegistry();
+  private EntityManager entityManager;
+
+  @BeforeEach
+  void setUp() {
+    entityManager = database.createEntityManager();
+  }
+
+  @AfterEach
+  void tearDown() {
+    entityManager.close();
+  }
+
+  @Test
+  void frozenSpecificationIgnoresLaterBuilderChanges() {
+    Builder<Member> builder =
+        Builder.create(Member.class, entityManager)
+            .equal("role", "MEMBER")
+            .orderBy("id", Direction.ASC);
+    CompiledSpecification<Member> frozen = builder.freeze();
+
+    builder.equal("age", 25).orderBy("age", Direction.DESC);
+
+    assertEquals(1, frozen.getConditionCount());
+    assertEquals(List.of(2L, 3L, 5L), ids(frozen.executor(entityManager).list()));
+    assertEquals(List.of(2L), ids(builder.executor().list()));
+  }
+
+  @Test
+  void registeredSpecificationIsSharedAcrossThreads() throws Exception {
+    registry.register(
+        "activeMembers",
+        Builder.create(Member.class, entityManager)
+            .equal("status", "ACTIVE")
+            .orderBy("age", Direction.DESC)
+            .freeze());
+    Callable<List<Long>> task =
+        () -> {
+          try (EntityManager other = database.createEntityManager()) {
+            return ids(registry.get("activeMembers", Member.class).executor(other).list());
+          }
+        };
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<Long>>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(task));
+      }
+      for (Future<List<Long>> result : results) {
+        assertEquals(List.of(6L, 4L, 1L, 2L), result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void rejectsDuplicateNameAndOtherEntityClass() {
+    CompiledSpecification<Member> specification =
+        Builder.create(Member.class, entityManager).equal("role", "ADMIN").freeze();
+
+    assertSame(specification, registry.register("admins", specification));
+    assertThrows(IllegalArgumentException.class, () -> registry.register("admins", specification));
+    assertThrows(IllegalArgumentException.class, () -> registry.get("admins", Team.class));
+    assertThrows(IllegalArgumentException.class, () -> registry.get("unknown"));
+  }
+
+  private static List<Long> ids(List<Member> members) {
+    return members.stream().map(Member::getId).toList();
+  }
+}
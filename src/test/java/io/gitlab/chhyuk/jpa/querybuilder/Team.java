@@ -0,0 +1,39 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+
+/** 테스트용 1:N 부모 엔티티. */
+@Entity
+@Table(name = "test_team")
+public class Team {
+  @Id private Long id;
+
+  private String name;
+
+  @OneToMany(mappedBy = "team")
+  private List<Member> members = new ArrayList<>();
+
+  protected Team() {}
+
+  Team(Long id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<Member> getMembers() {
+    return members;
+  }
+}
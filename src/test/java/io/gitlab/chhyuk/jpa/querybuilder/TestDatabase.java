@@ -0,0 +1,86 @@
+package io.gitlab.chhyuk.jpa.querybuilder;
+
+import io.gitlab.chhyuk.jpa.querybuilder.Member.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.cfg.Configuration;
+
+/**
+ * 테스트용 인메모리 H2 데이터베이스. 모든 테스트가 같은 데이터를 읽기만 하므로 하나를 공유하며, 실행된 SQL을 기록함.
+ *
+ * <pre>
+ * team 1 dev : 1 kim ADMIN 30 ACTIVE, 2 lee MEMBER 25 ACTIVE, 3 park MEMBER 35 INACTIVE
+ * team 2 ops : 4 choi GUEST 40 ACTIVE, 5 jung MEMBER 28 INACTIVE
+ * team 3 qa  : (없음)
+ * 팀 없음     : 6 kang ADMIN 45 ACTIVE
+ * </pre>
+ */
+final class TestDatabase {
+  private static final TestDatabase SHARED = new TestDatabase();
+
+  private final List<String> statements = new CopyOnWriteArrayList<>();
+  private final EntityManagerFactory factory;
+
+  private TestDatabase() {
+    this.factory =
+        new Configuration()
+            .addAnnotatedClass(Team.class)
+            .addAnnotatedClass(Member.class)
+            .setProperty("hibernate.connection.url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1")
+            .setProperty("hibernate.connection.username", "sa")
+            .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+            .setProperty("hibernate.show_sql", "false")
+            .setStatementInspector(
+                sql -> {
+                  statements.add(sql);
+                  return sql;
+                })
+            .buildSessionFactory();
+    load();
+  }
+
+  static TestDatabase shared() {
+    return SHARED;
+  }
+
+  EntityManagerFactory getFactory() {
+    return factory;
+  }
+
+  /** 새 EntityManager 생성 (호출자가 닫아야 함). */
+  EntityManager createEntityManager() {
+    return factory.createEntityManager();
+  }
+
+  /** 마지막 {@link #clearStatements()} 이후 실행된 SQL. */
+  List<String> statements() {
+    return List.copyOf(statements);
+  }
+
+  void clearStatements() {
+    statements.clear();
+  }
+
+  private void load() {
+    EntityManager entityManager = factory.createEntityManager();
+    try {
+      entityManager.getTransaction().begin();
+      Team dev = new Team(1L, "dev");
+      Team ops = new Team(2L, "ops");
+      entityManager.persist(dev);
+      entityManager.persist(ops);
+      entityManager.persist(new Team(3L, "qa"));
+      entityManager.persist(new Member(1L, "kim", "ADMIN", 30, Status.ACTIVE, dev));
+      entityManager.persist(new Member(2L, "lee", "MEMBER", 25, Status.ACTIVE, dev));
+      entityManager.persist(new Member(3L, "park", "MEMBER", 35, Status.INACTIVE, dev));
+      entityManager.persist(new Member(4L, "choi", "GUEST", 40, Status.ACTIVE, ops));
+      entityManager.persist(new Member(5L, "jung", "MEMBER", 28, Status.INACTIVE, ops));
+      entityManager.persist(new Member(6L, "kang", "ADMIN", 45, Status.ACTIVE, null));
+      entityManager.getTransaction().commit();
+    } finally {
+      entityManager.close();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ConversionRegistryTest {
+
+    private final ConversionRegistry registry = ConversionRegistry.defaults();
+
+    @Test
+    void convertsStringsToDefaultTargets() {
+        assertEquals(42L, registry.convert(" 42 ", Long.class));
+        assertEquals(42, registry.convert("42", Integer.class));
+        assertEquals((short) 42, registry.convert("42", Short.class));
+        assertEquals(1.5d, registry.convert("1.5", Double.class));
+        assertEquals(new BigDecimal("1.50"), registry.convert("1.50", BigDecimal.class));
+        assertEquals(BigInteger.TEN, registry.convert("10", BigInteger.class));
+        assertEquals(
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                registry.convert("123e4567-e89b-12d3-a456-426614174000", UUID.class));
+        assertEquals(LocalDate.of(2024, 2, 29), registry.convert("2024-02-29", LocalDate.class));
+        assertEquals(
+                Instant.parse("2024-01-02T03:04:05Z"),
+                registry.convert("2024-01-02T03:04:05Z", Instant.class));
+    }
+
+    @Test
+    void convertsPrimitiveTargetsAsWrappers() {
+        assertEquals(7, registry.convert("7", int.class));
+        assertEquals(7L, registry.convert(7, long.class));
+    }
+
+    @Test
+    void resolvesConverterFromSuperType() {
+        // Number 로 등록된 변환이 AtomicInteger 에도 적용됨
+        assertEquals(5L, registry.convert(new AtomicInteger(5), Long.class));
+        assertEquals(new BigDecimal("0.1"), registry.convert(0.1f, BigDecimal.class));
+        assertEquals(
+                new BigDecimal("12"), registry.convert(BigInteger.valueOf(12), BigDecimal.class));
+        assertEquals(BigInteger.ONE, registry.convert(new BigDecimal("1.9"), BigInteger.class));
+    }
+
+    @Test
+    void convertsDateTimesUsingUtc() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        ZonedDateTime zoned = ZonedDateTime.of(2024, 1, 2, 23, 0, 0, 0, ZoneOffset.ofHours(-5));
+
+        assertEquals(
+                dateTime.toInstant(ZoneOffset.UTC), registry.convert(dateTime, Instant.class));
+        assertEquals(
+                LocalDate.of(2024, 1, 2).atStartOfDay(),
+                registry.convert(LocalDate.of(2024, 1, 2), LocalDateTime.class));
+        assertEquals(LocalDate.of(2024, 1, 2), registry.convert(zoned, LocalDate.class));
+        assertEquals(
+                LocalDate.of(2024, 1, 3), registry.convert(zoned.toInstant(), LocalDate.class));
+        assertEquals(
+                zoned.toOffsetDateTime().toInstant(),
+                registry.convert(zoned.toOffsetDateTime(), Instant.class));
+    }
+
+    @Test
+    void convertsStringsToEnums() {
+        assertEquals(TimeUnit.SECONDS, registry.convert(" SECONDS ", TimeUnit.class));
+        assertNull(registry.convert("seconds", TimeUnit.class));
+        assertTrue(registry.canConvert(String.class, TimeUnit.class));
+    }
+
+    @Test
+    void returnsSameInstanceWhenAlreadyTargetType() {
+        Long value = 1L;
+
+        assertSame(value, registry.convert(value, Long.class));
+        assertSame(value, registry.convert(value, Number.class));
+    }
+
+    @Test
+    void returnsNullForUnsupportedPairs() {
+        assertNull(registry.convert(LocalDate.of(2024, 1, 1), Long.class));
+        assertNull(registry.convert(1L, LocalDate.class));
+        assertNull(registry.convert(UUID.randomUUID(), String.class));
+        assertNull(registry.convert(null, Long.class));
+        assertNull(registry.convert("1", null));
+    }
+
+    @Test
+    void returnsNullWhenConversionFails() {
+        assertNull(registry.convert("abc", Long.class));
+        assertNull(registry.convert(" ", Integer.class));
+        assertNull(registry.convert("2024-13-01", LocalDate.class));
+        assertNull(registry.convert("not-a-uuid", UUID.class));
+        assertNull(registry.convert(Double.NaN, BigDecimal.class));
+    }
+
+    @Test
+    void integerConversionsFailOnOverflow() {
+        assertNull(registry.convert(Long.MAX_VALUE, Integer.class));
+        assertNull(registry.convert(1L << 32, Integer.class));
+        assertNull(registry.convert(40_000, Short.class));
+        assertNull(registry.convert(-40_000L, short.class));
+        assertNull(registry.convert(new BigInteger("9223372036854775808"), Long.class));
+        assertNull(registry.convert(new BigDecimal("1e30"), Long.class));
+        assertNull(registry.convert(1e19d, Long.class));
+        assertNull(registry.convert(Double.POSITIVE_INFINITY, Integer.class));
+    }
+
+    @Test
+    void integerConversionsTruncateWithinRange() {
+        assertEquals(Integer.MIN_VALUE, registry.convert((long) Integer.MIN_VALUE, Integer.class));
+        assertEquals((short) -32768, registry.convert(-32768, Short.class));
+        assertEquals(1L, registry.convert(new BigDecimal("1.9"), Long.class));
+        assertEquals(-2, registry.convert(-2.5d, Integer.class));
+        assertEquals(
+                Long.MAX_VALUE, registry.convert(BigInteger.valueOf(Long.MAX_VALUE), Long.class));
+    }
+
+    @Test
+    void repeatedLookupsUseCachedResult() {
+        assertNull(registry.convert(1L, LocalDate.class));
+        assertNull(registry.convert(2L, LocalDate.class));
+        assertEquals(3, registry.convert("3", Integer.class));
+        assertEquals(4, registry.convert("4", Integer.class));
+    }
+
+    @Test
+    void canConvertChecksTypePairs() {
+        assertTrue(registry.canConvert(String.class, Long.class));
+        assertTrue(registry.canConvert(Integer.class, long.class));
+        assertTrue(registry.canConvert(int.class, Number.class));
+        assertTrue(registry.canConvert(Long.class, Long.class));
+        assertFalse(registry.canConvert(LocalDate.class, Long.class));
+        assertFalse(registry.canConvert(Long.class, TimeUnit.class));
+    }
+
+    @Test
+    void customRegistryUsesOnlyRegisteredConverters() {
+        ConversionRegistry custom =
+                ConversionRegistry.builder()
+                        .register(String.class, YearMonth.class, YearMonth::parse)
+                        .register(String.class, Integer.class, str -> -1)
+                        .register(String.class, Integer.class, str -> Integer.valueOf(str) * 2)
+                        .build();
+
+        assertEquals(YearMonth.of(2024, 5), custom.convert("2024-05", YearMonth.class));
+        assertEquals(4, custom.convert("2", Integer.class));
+        assertNull(custom.convert("2", Long.class));
+        assertFalse(custom.canConvert(String.class, Long.class));
+    }
+
+    @Test
+    void rejectsNullRegistration() {
+        ConversionRegistry.Builder builder = ConversionRegistry.builder();
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.register(null, Long.class, value -> 1L));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> builder.register(String.class, Long.class, null));
+    }
+}
@@ -0,0 +1,144 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+
+class DateParsersTest {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void defaultParserParsesIsoDateAtStartOfDay() {
+        assertEquals(
+                LocalDate.of(2025, 9, 18).atStartOfDay(UTC),
+                DateParser.defaultParser().parse(" 2025-09-18 "));
+        assertEquals(
+                LocalDate.of(2025, 9, 18).atStartOfDay(SEOUL),
+                DateParser.defaultParser(SEOUL).parse("2025-09-18"));
+    }
+
+    @Test
+    void clampsDayToEndOfMonth() {
+        DateParser parser = DateParser.defaultParser();
+
+        assertEquals(LocalDate.of(2025, 2, 28), parser.parse("2025-02-30").toLocalDate());
+        assertEquals(LocalDate.of(2024, 2, 29), parser.parse("2024-02-31").toLocalDate());
+        assertEquals(LocalDate.of(2025, 4, 30), parser.parse("2025-04-31").toLocalDate());
+        assertEquals(LocalDate.of(2025, 12, 31), parser.parse("2025-12-31").toLocalDate());
+    }
+
+    @Test
+    void defaultParserRejectsOutOfRangeOrMalformedDates() {
+        DateParser parser = DateParser.defaultParser();
+
+        for (String text :
+                new String[] {
+                    "2025-13-01", "2025-00-10", "2025-01-00", "2025-01-32", "2025/01/01",
+                    "2025-1-01", "20250101", "2025-01-01T00:00", "2O25-01-01"
+                }) {
+            assertThrows(DateTimeParseException.class, () -> parser.parse(text), text);
+        }
+    }
+
+    @Test
+    void rejectsBlankInput() {
+        assertThrows(DateTimeParseException.class, () -> DateParser.defaultParser().parse(null));
+        assertThrows(DateTimeParseException.class, () -> DateParser.isoParser(UTC).parse(" "));
+    }
+
+    @Test
+    void isoParserParsesEpochMillis() {
+        DateParser parser = DateParser.isoParser(SEOUL);
+
+        assertEquals(
+                Instant.ofEpochMilli(1756684800000L).atZone(SEOUL),
+                parser.parse("1756684800000"));
+        assertEquals(Instant.EPOCH.atZone(SEOUL), parser.parse("0"));
+        assertEquals(Instant.ofEpochMilli(-1000L).atZone(SEOUL), parser.parse("-1000"));
+    }
+
+    @Test
+    void isoParserRejectsInvalidEpochMillis() {
+        DateParser parser = DateParser.isoParser(UTC);
+
+        assertThrows(DateTimeParseException.class, () -> parser.parse("99999999999999999999"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("-"));
+    }
+
+    @Test
+    void isoParserKeepsOffsetAndZone() {
+        DateParser parser = DateParser.isoParser(UTC);
+
+        ZonedDateTime offset = parser.parse("2025-09-01T10:15:30+09:00");
+        assertEquals(ZoneOffset.ofHours(9), offset.getZone());
+        assertEquals(Instant.parse("2025-09-01T01:15:30Z"), offset.toInstant());
+
+        ZonedDateTime zoned = parser.parse("2025-09-01T10:15:30+09:00[Asia/Seoul]");
+        assertEquals(SEOUL, zoned.getZone());
+        assertEquals(Instant.parse("2025-09-01T01:15:30Z"), zoned.toInstant());
+
+        assertEquals(
+                Instant.parse("2025-09-01T10:15:30Z"),
+                parser.parse("2025-09-01T10:15:30Z").toInstant());
+    }
+
+    @Test
+    void isoParserUsesZoneForLocalValues() {
+        DateParser parser = DateParser.isoParser(SEOUL);
+
+        assertEquals(
+                LocalDateTime.of(2025, 9, 1, 10, 15, 30).atZone(SEOUL),
+                parser.parse("2025-09-01T10:15:30"));
+        assertEquals(LocalDate.of(2025, 9, 1).atStartOfDay(SEOUL), parser.parse("2025-09-01"));
+        assertEquals(LocalDate.of(2025, 2, 28), parser.parse("2025-02-29").toLocalDate());
+    }
+
+    @Test
+    void isoParserRejectsOtherFormats() {
+        DateParser parser = DateParser.isoParser(UTC);
+
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025.09.01"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025-09-01T25:00"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("T10:15"));
+    }
+
+    @Test
+    void ofPatternsTriesPatternsInOrder() {
+        DateParser parser =
+                DateParser.ofPatterns(SEOUL, "yyyy.MM.dd", "yyyyMMdd HH:mm", "yyyyMMdd");
+
+        assertEquals(LocalDate.of(2025, 9, 1).atStartOfDay(SEOUL), parser.parse("2025.09.01"));
+        assertEquals(
+                LocalDateTime.of(2025, 9, 1, 10, 15).atZone(SEOUL), parser.parse("20250901 10:15"));
+        assertEquals(LocalDate.of(2025, 9, 1).atStartOfDay(SEOUL), parser.parse("20250901"));
+    }
+
+    @Test
+    void ofPatternsThrowsFirstPatternError() {
+        DateParser parser = DateParser.ofPatterns(UTC, "yyyy.MM.dd", "yyyyMMdd");
+
+        DateTimeParseException e =
+                assertThrows(DateTimeParseException.class, () -> parser.parse("01/09/2025"));
+        assertEquals("01/09/2025", e.getParsedString());
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2025.13.01"));
+    }
+
+    @Test
+    void rejectsInvalidFactoryArguments() {
+        assertThrows(IllegalArgumentException.class, () -> DateParser.defaultParser(null));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.isoParser(null));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.ofPatterns(UTC));
+        assertThrows(IllegalArgumentException.class, () -> DateParser.ofPatterns(null, "yyyy"));
+        assertThrows(
+                IllegalArgumentException.class, () -> DateParser.ofPatterns(UTC, "yyyy-MM-{"));
+    }
+}
@@ -0,0 +1,75 @@
+package io.gitlab.chhyuk.jpa.querybuilder.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.persistence.FlushModeType;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class QueryHintsTest {
+
+    @Test
+    void roundsTimeoutUpToWholeSeconds() {
+        assertEquals(1000, timeoutHint(Duration.ofNanos(1)));
+        assertEquals(1000, timeoutHint(Duration.ofMillis(500)));
+        assertEquals(1000, timeoutHint(Duration.ofSeconds(1)));
+        assertEquals(2000, timeoutHint(Duration.ofMillis(1500)));
+        assertEquals(Integer.MAX_VALUE / 1000 * 1000, timeoutHint(Duration.ofDays(365_000)));
+    }
+
+    @Test
+    void keepsOriginalTimeout() {
+        Duration timeout = Duration.ofMillis(500);
+
+        assertSame(timeout, QueryHints.empty().withTimeout(timeout).getTimeout());
+    }
+
+    @Test
+    void rejectsNonPositiveValues() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryHints.empty().withTimeout(Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryHints.empty().withTimeout(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> QueryHints.empty().withFetchSize(0));
+    }
+
+    @Test
+    void overrideWithPrefersOtherValues() {
+        QueryHints defaults =
+                QueryHints.empty()
+                        .withTimeout(Duration.ofSeconds(10))
+                        .withFetchSize(100)
+                        .withCacheable(true, "default");
+        QueryHints builder =
+                QueryHints.empty().withFetchSize(500).withCacheable(false, null).withReadOnly(true);
+
+        QueryHints merged = defaults.overrideWith(builder);
+
+        assertEquals(
+                Map.of(
+                        QueryHints.TIMEOUT, 10_000,
+                        QueryHints.FETCH_SIZE, 500,
+                        QueryHints.READ_ONLY, true,
+                        QueryHints.CACHEABLE, false),
+                merged.toMap());
+        assertSame(defaults, defaults.overrideWith(QueryHints.empty()));
+        assertSame(builder, QueryHints.empty().overrideWith(builder));
+    }
+
+    @Test
+    void flushModeIsNotAHint() {
+        QueryHints hints = QueryHints.empty().withFlushMode(FlushModeType.COMMIT);
+
+        assertEquals(Map.of(), hints.toMap());
+        assertEquals(FlushModeType.COMMIT, hints.getFlushMode());
+    }
+
+    private static Object timeoutHint(Duration timeout) {
+        return QueryHints.empty().withTimeout(timeout).toMap().get(QueryHints.TIMEOUT);
+    }
+}